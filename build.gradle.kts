@@ -103,6 +103,8 @@ val alternativeBuildpack = project.properties["buildpack"]
 val mapStructVerbose = project.properties["mapStructVerbose"] == "true" || project.properties["mapStructVerbose"] == "TRUE"
 val useTracing = project.properties["tracing"] != "false" && project.properties["tracing"] != "FALSE"
 val useDevTools = project.properties["devTools"] != "false" && project.properties["devTools"] != "FALSE"
+// Anzahl der Fakultaeten in der H2-Datenbank fuer die Benchmarks, z.B. gradle jmh -PjmhFacultyCount=10000
+val jmhFacultyCount = project.properties["jmhFacultyCount"]?.toString() ?: "1000"
 val activeProfiles = if (project.properties["https"] != "false" && project.properties["https"] != "FALSE") "dev" else "dev,http"
 
 plugins {
@@ -185,6 +187,10 @@ plugins {
     // Aufruf: gradle checkNewVersions
     id("com.markelliot.versions") version libs.versions.markelliotVersions.get()
 
+    // https://github.com/melix/jmh-gradle-plugin
+    // Aufruf: gradle jmh
+    id("me.champeau.jmh") version libs.versions.jmhPlugin.get()
+
     // https://github.com/jk1/Gradle-License-Report
     id("com.github.jk1.dependency-license-report") version libs.versions.licenseReport.get()
 
@@ -329,9 +335,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-hateoas")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    // 2nd-Level-Cache von Hibernate mit Caffeine als JCache-Provider sowie Metriken fuer Micrometer
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    // optionaler reaktiver Lesezugriff unter /reactive/rest
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
     //implementation("org.springframework.cloud:spring-cloud-starter-kubernetes-client")
 
     runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("org.postgresql:r2dbc-postgresql")
     runtimeOnly("com.mysql:mysql-connector-j")
     runtimeOnly("com.oracle.database.jdbc:ojdbc11")
     runtimeOnly("com.h2database:h2")
@@ -443,6 +456,8 @@ dependencies {
         implementation("jakarta.persistence:jakarta.persistence-api:${libs.versions.jakartaPersistence.get()}")
         //implementation("com.zaxxer:HikariCP:${libs.versions.hikaricp.get()}") // NOSONAR
         implementation("org.hibernate.orm:hibernate-core:${libs.versions.hibernate.get()}")
+        implementation("org.hibernate.orm:hibernate-jcache:${libs.versions.hibernate.get()}")
+        implementation("org.hibernate.orm:hibernate-micrometer:${libs.versions.hibernate.get()}")
 
         implementation("org.flywaydb:flyway-core:${libs.versions.flyway.get()}")
         runtimeOnly("org.flywaydb:flyway-database-postgresql:${libs.versions.flyway.get()}")
@@ -816,6 +831,19 @@ tasks.named<JacocoCoverageVerification>("jacocoTestCoverageVerification") {
     }
 }
 
+// https://github.com/melix/jmh-gradle-plugin#configuration-options
+// Aufruf: gradle jmh -PjmhFacultyCount=10000
+// Ergebnisse in build/results/jmh/results.json, z.B. fuer einen Vergleich mit https://jmh.morethan.io
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    benchmarkParameters.put("facultyCount", objects.listProperty<String>().value(listOf(jmhFacultyCount)))
+}
+
 checkstyle {
     toolVersion = libs.versions.checkstyle.get()
     isIgnoreFailures = false
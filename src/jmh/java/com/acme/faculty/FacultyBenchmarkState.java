@@ -0,0 +1,148 @@
+package com.acme.faculty;
+
+import com.acme.faculty.entity.Course;
+import com.acme.faculty.entity.Dean;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.service.BulkResult;
+import com.acme.faculty.service.FacultyWriteService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.openjdk.jmh.annotations.Level.Trial;
+
+/**
+ * Gemeinsamer Zustand für die Benchmarks: die Anwendung mit einer eingebetteten H2-Datenbank, die mit einer
+ * konfigurierbaren Anzahl an Fakultäten gefüllt wird, z.B. mit "gradle jmh -PjmhFacultyCount=10000".
+ *
+ * @author Ahmad Hawarnah
+ */
+@State(Scope.Benchmark)
+public class FacultyBenchmarkState {
+    /**
+     * Anzahl der Kurse pro Fakultät.
+     */
+    public static final int COURSES_PER_FACULTY = 5;
+
+    private static final int SEED_CHUNK_SIZE = 500;
+
+    /**
+     * Anzahl der Fakultäten in der Datenbank.
+     */
+    @Param("1000")
+    @SuppressWarnings("VisibilityModifier")
+    public int facultyCount;
+
+    private ConfigurableApplicationContext context;
+    private final List<UUID> ids = new ArrayList<>();
+
+    /**
+     * Die Anwendung ohne TLS mit H2 starten, das Schema mit Flyway aus db/migration/h2 anlegen und die Datenbank wie
+     * bei "POST /rest/bulk" füllen, d.h. mit Positionen in der Änderungsfolge.
+     */
+    @Setup(Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+            .properties(Map.of(
+                "spring.datasource.url", "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                "spring.datasource.username", "sa",
+                "spring.datasource.password", "",
+                "spring.flyway.enabled", "true",
+                "spring.jpa.hibernate.ddl-auto", "none",
+                "spring.main.lazy-initialization", "false",
+                "server.port", "0",
+                "server.ssl.enabled", "false",
+                "server.http2.enabled", "false",
+                "logging.threshold.console", "warn"
+            ))
+            .run();
+        seed();
+    }
+
+    /**
+     * Die Anwendung beenden.
+     */
+    @TearDown(Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Eine Spring-Bean ermitteln.
+     *
+     * @param type Typ der Bean
+     * @param <T> Typ der Bean
+     * @return Die Bean
+     */
+    public <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Die ID einer gespeicherten Fakultät ermitteln.
+     *
+     * @param index Index zwischen 0 und facultyCount, wird modulo facultyCount gerechnet
+     * @return Die ID
+     */
+    public UUID getId(final int index) {
+        return ids.get(Math.floorMod(index, ids.size()));
+    }
+
+    /**
+     * Statistik von Hibernate, z.B. für die Anzahl der SQL-Anweisungen und der geladenen Entities.
+     *
+     * @return Die Statistik
+     */
+    public Statistics getStatistics() {
+        return getBean(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Eine neue, noch nicht gespeicherte Fakultät erstellen.
+     *
+     * @param suffix Eindeutiges Suffix für den Namen der Fakultät und des Dekans
+     * @return Die neue Fakultät
+     */
+    public static Faculty newFaculty(final String suffix) {
+        final var dean = Dean.builder()
+            .name("Dekan " + suffix)
+            .email("dekan." + suffix + "@acme.com")
+            .build();
+        final var courses = IntStream.range(0, COURSES_PER_FACULTY)
+            .mapToObj(i -> Course.builder().name("Kurs " + suffix + '-' + i).build())
+            .toList();
+        return Faculty.builder()
+            .name("Fakultaet " + suffix)
+            .dean(dean)
+            .courses(new ArrayList<>(courses))
+            .build();
+    }
+
+    private void seed() {
+        final var writeService = getBean(FacultyWriteService.class);
+        for (var start = 0; start < facultyCount; start += SEED_CHUNK_SIZE) {
+            final var end = Math.min(start + SEED_CHUNK_SIZE, facultyCount);
+            final var chunk = IntStream.range(start, end)
+                .mapToObj(i -> newFaculty("%06d".formatted(i)))
+                .toList();
+            writeService.createAll(chunk, false).forEach(result -> {
+                if (result.status() != BulkResult.Status.CREATED) {
+                    throw new IllegalStateException("Fakultaet nicht angelegt: " + result);
+                }
+                ids.add(result.id());
+            });
+        }
+        getStatistics().clear();
+    }
+}
@@ -0,0 +1,66 @@
+package com.acme.faculty;
+
+import java.util.function.Supplier;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.openjdk.jmh.annotations.AuxCounters.Type.EVENTS;
+import static org.openjdk.jmh.annotations.Level.Iteration;
+
+/**
+ * Zusätzliche Messwerte pro Benchmark-Aufruf: Anzahl der SQL-Anweisungen und der geladenen Entities bzw.
+ * Collections als Maß für die übertragenen Datensätze.
+ *
+ * @author Ahmad Hawarnah
+ */
+@State(Scope.Thread)
+@AuxCounters(EVENTS)
+@SuppressWarnings("VisibilityModifier")
+public class JpaCounters {
+    /**
+     * Anzahl der vorbereiteten SQL-Anweisungen.
+     */
+    public long statements;
+
+    /**
+     * Anzahl der geladenen Entities.
+     */
+    public long entitiesLoaded;
+
+    /**
+     * Anzahl der geladenen Collections.
+     */
+    public long collectionsLoaded;
+
+    /**
+     * Die Zähler zu Beginn jeder Iteration zurücksetzen.
+     */
+    @Setup(Iteration)
+    public void reset() {
+        statements = 0;
+        entitiesLoaded = 0;
+        collectionsLoaded = 0;
+    }
+
+    /**
+     * Die Statistik vor einem Aufruf festhalten und anschließend die Differenz aufaddieren.
+     *
+     * @param statistics Statistik von Hibernate
+     * @param call Der gemessene Aufruf
+     * @param <T> Typ des Resultats
+     * @return Das Resultat des Aufrufs
+     */
+    public <T> T count(final Statistics statistics, final Supplier<T> call) {
+        final var statementsBefore = statistics.getPrepareStatementCount();
+        final var entitiesBefore = statistics.getEntityLoadCount();
+        final var collectionsBefore = statistics.getCollectionLoadCount();
+        final var result = call.get();
+        statements += statistics.getPrepareStatementCount() - statementsBefore;
+        entitiesLoaded += statistics.getEntityLoadCount() - entitiesBefore;
+        collectionsLoaded += statistics.getCollectionLoadCount() - collectionsBefore;
+        return result;
+    }
+}
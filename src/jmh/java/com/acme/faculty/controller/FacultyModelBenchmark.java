@@ -0,0 +1,163 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.FacultyBenchmarkState;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.service.FacultyReadService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.openjdk.jmh.annotations.Level.Trial;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON;
+
+/**
+ * Benchmarks für die Serialisierung von FacultyModel als HAL mit dem ObjectMapper, den Spring MVC für
+ * "application/hal+json" verwendet, im Vergleich zu {@linkplain FacultyHalWriter}.
+ *
+ * @author Ahmad Hawarnah
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacultyModelBenchmark {
+    private static final FacultyLinks LINKS = new FacultyLinks("https://localhost:8080/rest");
+    private static final int PAGE_SIZE = Integer.parseInt(FacultyGetController.DEFAULT_LIMIT);
+
+    private ObjectMapper halMapper;
+    private FacultyHalWriter halWriter;
+    private List<Faculty> faculties;
+    private List<FacultySummary> summaries;
+
+    /**
+     * Den ObjectMapper für HAL ermitteln und die Fakultäten einmalig laden. Außerdem wird geprüft, dass
+     * FacultyHalWriter dieselben Bytes wie Spring HATEOAS erzeugt.
+     *
+     * @param state Gemeinsamer Zustand mit der laufenden Anwendung
+     * @throws IOException falls die Serialisierung fehlschlägt
+     */
+    @Setup(Trial)
+    public void setUp(final FacultyBenchmarkState state) throws IOException {
+        halMapper = state.getBean(RequestMappingHandlerAdapter.class)
+            .getMessageConverters()
+            .stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .map(MappingJackson2HttpMessageConverter.class::cast)
+            .filter(converter -> converter.getSupportedMediaTypes().contains(HAL_JSON))
+            .findFirst()
+            .orElseThrow()
+            .getObjectMapper();
+        faculties = List.copyOf(state.getBean(FacultyReadService.class).find(Map.of()));
+
+        summaries = faculties.stream().map(FacultyModelBenchmark::toSummary).toList();
+        halWriter = new FacultyHalWriter(halMapper);
+        if (!Arrays.equals(serialize(faculties), streaming())) {
+            throw new IllegalStateException("FacultyHalWriter erzeugt ein anderes Format als CollectionModel");
+        }
+    }
+
+    /**
+     * Nur die Models mit allen Links zu allen Fakultäten erstellen, um mit dem GC-Profiler die Allokationen beim
+     * Erstellen der Links zu messen.
+     *
+     * @return Die Models
+     */
+    @Benchmark
+    public List<FacultyModel> links() {
+        return faculties.stream()
+            .map(faculty -> {
+                final var model = new FacultyModel(faculty);
+                LINKS.addAll(model, faculty.getId());
+                return model;
+            })
+            .toList();
+    }
+
+    /**
+     * Eine einzelne Fakultät mit Self-Link serialisieren.
+     *
+     * @return Die Fakultät als JSON
+     * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+     */
+    @Benchmark
+    public byte[] single() throws JsonProcessingException {
+        return halMapper.writeValueAsBytes(toModel(faculties.getFirst()));
+    }
+
+    /**
+     * Eine Seite mit der Default-Seitengröße von GET /rest serialisieren.
+     *
+     * @return Die Seite als JSON
+     * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+     */
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return serialize(faculties.subList(0, Math.min(PAGE_SIZE, faculties.size())));
+    }
+
+    /**
+     * Alle Fakultäten serialisieren.
+     *
+     * @return Die Fakultäten als JSON
+     * @throws JsonProcessingException falls die Serialisierung fehlschlägt
+     */
+    @Benchmark
+    public byte[] all() throws JsonProcessingException {
+        return serialize(faculties);
+    }
+
+    /**
+     * Alle Fakultäten als Projektion mit FacultyHalWriter ohne FacultyModel serialisieren.
+     *
+     * @return Die Fakultäten als JSON
+     * @throws IOException falls die Serialisierung fehlschlägt
+     */
+    @Benchmark
+    public byte[] streaming() throws IOException {
+        final var out = new ByteArrayOutputStream();
+        halWriter.write(summaries, LINKS, null, out);
+        return out.toByteArray();
+    }
+
+    private byte[] serialize(final List<Faculty> page) throws JsonProcessingException {
+        final var models = page.stream().map(FacultyModelBenchmark::toModel).toList();
+        return halMapper.writeValueAsBytes(CollectionModel.of(models));
+    }
+
+    private static FacultyModel toModel(final Faculty faculty) {
+        final var model = new FacultyModel(faculty);
+        model.add(LINKS.self(faculty.getId()));
+        return model;
+    }
+
+    private static FacultySummary toSummary(final Faculty faculty) {
+        final var dean = faculty.getDean();
+        final var courses = faculty.getCourses()
+            .stream()
+            .map(course -> new CourseSummary(faculty.getId(), course.getId(), course.getName()))
+            .toList();
+        return new FacultySummary(
+            faculty.getId(),
+            faculty.getName(),
+            new DeanSummary(dean.getId(), dean.getName(), dean.getEmail()),
+            courses
+        );
+    }
+}
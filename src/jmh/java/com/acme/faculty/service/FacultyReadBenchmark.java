@@ -0,0 +1,127 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.FacultyBenchmarkState;
+import com.acme.faculty.JpaCounters;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.repository.FetchStrategy;
+import com.acme.faculty.security.FacultyPrincipal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import static com.acme.faculty.security.Rolle.ADMIN;
+import static org.openjdk.jmh.annotations.Level.Trial;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+/**
+ * Benchmarks für die Suche mit FacultyReadService, jeweils mit Dekan und Kursen geladen über einen Entity Graph bzw.
+ * in Batches.
+ *
+ * @author Ahmad Hawarnah
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FacultyReadBenchmark {
+    private static final Map<String, List<String>> ALL = Map.of();
+    private static final int PAGE_SIZE = 50;
+    private static final Map<String, List<String>> BY_NAME = Map.of("name", List.of("fakultaet 0001"));
+    private static final Map<String, List<String>> MIXED = Map.of(
+        "name", List.of("fakultaet 00"),
+        "dean", List.of("dekan 00"),
+        "course", List.of("-1")
+    );
+
+    /**
+     * Strategie für das Laden von Dekan und Kursen.
+     */
+    @Param({"GRAPH", "BATCH"})
+    @SuppressWarnings("VisibilityModifier")
+    public FetchStrategy fetchStrategy;
+
+    private FacultyReadService service;
+    private FacultyBenchmarkState state;
+    private FacultyPrincipal admin;
+    private int next;
+
+    /**
+     * Den Service aus dem gemeinsamen Zustand ermitteln.
+     *
+     * @param benchmarkState Gemeinsamer Zustand mit der laufenden Anwendung
+     */
+    @Setup(Trial)
+    public void setUp(final FacultyBenchmarkState benchmarkState) {
+        state = benchmarkState;
+        service = state.getBean(FacultyReadService.class);
+        admin = new FacultyPrincipal("admin", Set.of(ADMIN), Instant.MAX);
+    }
+
+    /**
+     * Alle Fakultäten ohne Suchkriterien.
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die gefundenen Fakultäten
+     */
+    @Benchmark
+    public Collection<Faculty> findAll(final JpaCounters counters) {
+        return counters.count(state.getStatistics(), () -> service.find(ALL, fetchStrategy));
+    }
+
+    /**
+     * Fakultäten mit dem Suchkriterium "name".
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die gefundenen Fakultäten
+     */
+    @Benchmark
+    public Collection<Faculty> findByName(final JpaCounters counters) {
+        return counters.count(state.getStatistics(), () -> service.find(BY_NAME, fetchStrategy));
+    }
+
+    /**
+     * Fakultäten mit den Suchkriterien "name", "dean" und "course" über SpecificationBuilder.
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die gefundenen Fakultäten
+     */
+    @Benchmark
+    public Collection<Faculty> findMixed(final JpaCounters counters) {
+        return counters.count(state.getStatistics(), () -> service.find(MIXED, fetchStrategy));
+    }
+
+    /**
+     * Die erste Seite ohne Suchkriterien mit Keyset-Pagination und Projektionen wie bei GET /rest.
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die gefundenen Fakultäten
+     */
+    @Benchmark
+    public Window<FacultySummary> findPage(final JpaCounters counters) {
+        return counters.count(state.getStatistics(), () -> service.find(ALL, ScrollPosition.keyset(), PAGE_SIZE));
+    }
+
+    /**
+     * Eine Fakultät anhand der ID, reihum über alle gespeicherten Fakultäten.
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die gefundene Fakultät
+     */
+    @Benchmark
+    public Faculty findById(final JpaCounters counters) {
+        final var id = state.getId(next++);
+        return counters.count(state.getStatistics(), () -> service.findById(id, admin));
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.FacultyBenchmarkState;
+import com.acme.faculty.JpaCounters;
+import com.acme.faculty.entity.Faculty;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.openjdk.jmh.annotations.Level.Trial;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+/**
+ * Benchmark für das Neuanlegen einer Fakultät mit FacultyWriteService einschließlich der Prüfung auf eindeutigen
+ * Namen und Dekan.
+ *
+ * @author Ahmad Hawarnah
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FacultyWriteBenchmark {
+    private final AtomicLong sequence = new AtomicLong();
+    private FacultyWriteService service;
+    private FacultyBenchmarkState state;
+
+    /**
+     * Den Service aus dem gemeinsamen Zustand ermitteln.
+     *
+     * @param benchmarkState Gemeinsamer Zustand mit der laufenden Anwendung
+     */
+    @Setup(Trial)
+    public void setUp(final FacultyBenchmarkState benchmarkState) {
+        state = benchmarkState;
+        service = state.getBean(FacultyWriteService.class);
+    }
+
+    /**
+     * Eine neue Fakultät mit Dekan und Kursen anlegen.
+     *
+     * @param counters Zähler für SQL-Anweisungen und geladene Entities
+     * @return Die neue Fakultät
+     */
+    @Benchmark
+    public Faculty create(final JpaCounters counters) {
+        final var faculty = FacultyBenchmarkState.newFaculty("jmh-" + sequence.incrementAndGet());
+        return counters.count(state.getStatistics(), () -> service.create(faculty));
+    }
+}
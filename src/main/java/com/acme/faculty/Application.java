@@ -17,8 +17,22 @@
 
 package com.acme.faculty;
 
+import com.acme.faculty.controller.BulkProps;
+import com.acme.faculty.controller.GraphQlProps;
 import com.acme.faculty.dev.DevConfig;
+import com.acme.faculty.repository.CacheProps;
+import com.acme.faculty.repository.JpaStatsProps;
+import com.acme.faculty.repository.RepositoryMetricsProps;
+import com.acme.faculty.repository.RoutingDataSourceProps;
+import com.acme.faculty.security.JwksProps;
+import com.acme.faculty.security.JwtProps;
 import com.acme.faculty.security.KeycloakProps;
+import com.acme.faculty.service.CatalogProps;
+import com.acme.faculty.service.ChangeFeedProps;
+import com.acme.faculty.service.FacultyReadProps;
+import com.acme.faculty.service.OutboxProps;
+import com.acme.faculty.service.VersionIndexProps;
+import com.acme.faculty.service.WritePipelineProps;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -40,7 +54,11 @@ import static org.springframework.hateoas.support.WebStack.WEBMVC;
  */
 @SpringBootApplication(proxyBeanMethods = false)
 @Import({com.acme.faculty.ApplicationConfig.class, DevConfig.class})
-@EnableConfigurationProperties({KeycloakProps.class})
+@EnableConfigurationProperties({KeycloakProps.class, CacheProps.class, VersionIndexProps.class,
+    FacultyReadProps.class, WritePipelineProps.class, RepositoryMetricsProps.class,
+    JpaStatsProps.class, JwtProps.class, JwksProps.class, CatalogProps.class,
+    RoutingDataSourceProps.class, GraphQlProps.class, ChangeFeedProps.class,
+    OutboxProps.class, BulkProps.class})
 @EnableHypermediaSupport(type = HAL, stacks = WEBMVC)
 @EnableJpaRepositories
 @EnableWebSecurity
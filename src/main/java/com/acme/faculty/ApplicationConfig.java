@@ -16,15 +16,23 @@
  */
 package com.acme.faculty;
 
+import com.acme.faculty.controller.GraphQlConfig;
+import com.acme.faculty.repository.CacheConfig;
+import com.acme.faculty.repository.DataSourceRoutingConfig;
+import com.acme.faculty.repository.JpaStatsConfig;
+import com.acme.faculty.repository.RepositoryMetricsConfig;
+import com.acme.faculty.security.JwksConfig;
 import com.acme.faculty.security.KeycloakClientConfig;
 import com.acme.faculty.security.SecurityConfig;
+import com.acme.faculty.service.OutboxConfig;
 
 /**
  * Konfigurationsklasse für die Anwendung bzw. den Microservice.
  *
  * @author <a href="mailto:Juergen.Zimmermann@h-ka.de">Jürgen Zimmermann</a>
  */
-final class ApplicationConfig implements SecurityConfig, KeycloakClientConfig {
+final class ApplicationConfig implements SecurityConfig, KeycloakClientConfig, CacheConfig,
+    RepositoryMetricsConfig, JpaStatsConfig, JwksConfig, DataSourceRoutingConfig, GraphQlConfig, OutboxConfig {
     ApplicationConfig() {
     }
 }
@@ -0,0 +1,17 @@
+package com.acme.faculty.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.bulk.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param maxItems Maximale Anzahl an Fakultäten in einem Request an "POST /rest/bulk"
+ */
+@ConfigurationProperties(prefix = "app.bulk")
+public record BulkProps(
+    @DefaultValue("10000")
+    int maxItems
+) {
+}
@@ -0,0 +1,21 @@
+package com.acme.faculty.controller;
+
+import lombok.Getter;
+
+/**
+ * Exception, falls der Request-Body bei "POST /rest/bulk" mehr Fakultäten enthält als erlaubt.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Getter
+class BulkTooLargeException extends RuntimeException {
+    /**
+     * Maximale Anzahl an Fakultäten in einem Request.
+     */
+    private final int maxItems;
+
+    BulkTooLargeException(final int maxItems) {
+        super("Der Request-Body enthaelt mehr als " + maxItems + " Fakultaeten");
+        this.maxItems = maxItems;
+    }
+}
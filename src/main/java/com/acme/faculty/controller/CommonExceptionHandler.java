@@ -1,17 +1,26 @@
 package com.acme.faculty.controller;
 
+import com.acme.faculty.security.KeycloakBusyException;
 import com.acme.faculty.service.DeanExistsException;
 import com.acme.faculty.service.NameExistsException;
 import com.acme.faculty.service.NotFoundException;
+import com.acme.faculty.service.VersionOutdatedException;
+import com.acme.faculty.service.WritePipelineFullException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import static com.acme.faculty.controller.FacultyWriteController.PROBLEM_PATH;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONTENT_TOO_LARGE;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 /**
  * Handler für allgemeine Exceptions.
@@ -21,6 +30,8 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @ControllerAdvice
 @Slf4j
 public class CommonExceptionHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /**
      * Behandelt Ausnahmen, die auftreten, wenn eine Ressource nicht gefunden wird.
      *
@@ -68,4 +79,87 @@ public class CommonExceptionHandler {
         problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
         return problemDetail;
     }
+
+    /**
+     * Behandelt Ausnahmen, die auftreten, wenn die Versionsnummer im Header "If-Match" veraltet ist.
+     *
+     * @param ex Die Ausnahme, die aufgetreten ist.
+     * @param request Die HTTP-Anfrage.
+     * @return Das ProblemDetail-Objekt mit dem entsprechenden Status und Details.
+     */
+    @ExceptionHandler
+    ProblemDetail onVersionOutdated(final VersionOutdatedException ex, final HttpServletRequest request) {
+        log.debug("onVersionOutdated: {}", ex.getMessage());
+        final var problemDetail = ProblemDetail.forStatusAndDetail(PRECONDITION_FAILED, ex.getMessage());
+        problemDetail.setType(URI.create(PROBLEM_PATH + ProblemType.PRECONDITION.getValue()));
+        problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
+        return problemDetail;
+    }
+
+    /**
+     * Behandelt Ausnahmen, die auftreten, wenn ein Cursor für die Pagination ungültig ist.
+     *
+     * @param ex Die Ausnahme, die aufgetreten ist.
+     * @param request Die HTTP-Anfrage.
+     * @return Das ProblemDetail-Objekt mit dem entsprechenden Status und Details.
+     */
+    @ExceptionHandler
+    ProblemDetail onInvalidCursor(final InvalidCursorException ex, final HttpServletRequest request) {
+        log.debug("onInvalidCursor: {}", ex.getMessage());
+        final var problemDetail = ProblemDetail.forStatusAndDetail(BAD_REQUEST, ex.getMessage());
+        problemDetail.setType(URI.create(PROBLEM_PATH + ProblemType.BAD_REQUEST.getValue()));
+        problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
+        return problemDetail;
+    }
+
+    /**
+     * Behandelt Ausnahmen, die auftreten, wenn der Request-Body zu viele Fakultäten enthält.
+     *
+     * @param ex Die Ausnahme, die aufgetreten ist.
+     * @param request Die HTTP-Anfrage.
+     * @return Das ProblemDetail-Objekt mit dem entsprechenden Status und Details.
+     */
+    @ExceptionHandler
+    ProblemDetail onBulkTooLarge(final BulkTooLargeException ex, final HttpServletRequest request) {
+        log.debug("onBulkTooLarge: {}", ex.getMessage());
+        final var problemDetail = ProblemDetail.forStatusAndDetail(CONTENT_TOO_LARGE, ex.getMessage());
+        problemDetail.setType(URI.create(PROBLEM_PATH + ProblemType.CONTENT_TOO_LARGE.getValue()));
+        problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
+        return problemDetail;
+    }
+
+    /**
+     * Behandelt Ausnahmen, die auftreten, wenn die Queue für asynchrone Schreibaufträge voll ist.
+     *
+     * @param ex Die Ausnahme, die aufgetreten ist.
+     * @param request Die HTTP-Anfrage.
+     * @return Das ProblemDetail-Objekt mit dem entsprechenden Status und Details sowie dem Header "Retry-After".
+     */
+    @ExceptionHandler
+    ResponseEntity<ProblemDetail> onWritePipelineFull(
+        final WritePipelineFullException ex,
+        final HttpServletRequest request
+    ) {
+        log.debug("onWritePipelineFull: {}", ex.getMessage());
+        final var problemDetail = ProblemDetail.forStatusAndDetail(SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setType(URI.create(PROBLEM_PATH + ProblemType.SERVICE_UNAVAILABLE.getValue()));
+        problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).header(RETRY_AFTER, RETRY_AFTER_SECONDS).body(problemDetail);
+    }
+
+    /**
+     * Behandelt Ausnahmen, die auftreten, wenn bereits zu viele Requests an Keycloak unterwegs sind.
+     *
+     * @param ex Die Ausnahme, die aufgetreten ist.
+     * @param request Die HTTP-Anfrage.
+     * @return Das ProblemDetail-Objekt mit dem entsprechenden Status und Details sowie dem Header "Retry-After".
+     */
+    @ExceptionHandler
+    ResponseEntity<ProblemDetail> onKeycloakBusy(final KeycloakBusyException ex, final HttpServletRequest request) {
+        log.debug("onKeycloakBusy: {}", ex.getMessage());
+        final var problemDetail = ProblemDetail.forStatusAndDetail(SERVICE_UNAVAILABLE, ex.getMessage());
+        problemDetail.setType(URI.create(PROBLEM_PATH + ProblemType.SERVICE_UNAVAILABLE.getValue()));
+        problemDetail.setInstance(URI.create(request.getRequestURL().toString()));
+        return ResponseEntity.status(SERVICE_UNAVAILABLE).header(RETRY_AFTER, RETRY_AFTER_SECONDS).body(problemDetail);
+    }
 }
@@ -0,0 +1,134 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.service.ChangeFeedProps;
+import com.acme.faculty.service.ChangeFilter;
+import com.acme.faculty.service.ChangeSink;
+import com.acme.faculty.service.FacultyChange;
+import com.acme.faculty.service.FacultyChangeFeed;
+import com.acme.faculty.service.FacultyDeltas;
+import com.acme.faculty.service.FacultySyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static com.acme.faculty.controller.FacultyGetController.LIMIT_PARAM;
+import static com.acme.faculty.controller.FacultyGetController.REST_PATH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
+
+/**
+ * Änderungen an Fakultäten: Server-Sent Events als Alternative zum Polling mit "If-None-Match" sowie die
+ * Synchronisation mit Deltas als Alternative zum Export des gesamten Katalogs. Der Name eines Events ist die Art der
+ * Änderung, z.B. "updated"; das Event "reset" bedeutet, dass Änderungen verloren gegangen sind und der Client die
+ * Fakultäten neu lesen muss, z.B. auch nach einem Neustart des Microservice.
+ *
+ * @author Ahmad Hawarnah
+ */
+@RestController
+@RequestMapping(REST_PATH)
+@RequiredArgsConstructor
+@Slf4j
+@SuppressWarnings("java:S1075")
+public class FacultyChangeController {
+    /**
+     * Pfad für die Server-Sent Events relativ zu {@linkplain FacultyGetController#REST_PATH}.
+     */
+    public static final String EVENTS_PATH = "/events";
+
+    /**
+     * Pfad für die Synchronisation mit Deltas relativ zu {@linkplain FacultyGetController#REST_PATH}.
+     */
+    public static final String CHANGES_PATH = "/changes";
+
+    private static final String DEFAULT_LIMIT = "500";
+    private static final int MAX_LIMIT = 5000;
+
+    private final FacultyChangeFeed feed;
+    private final ChangeFeedProps props;
+    private final FacultySyncService syncService;
+
+    /**
+     * Fakultäten, die seit einem Token neu angelegt, aktualisiert oder gelöscht wurden, in der Reihenfolge der
+     * Änderungen. Ohne Token wird der gesamte Bestand geliefert; danach wird jeweils mit dem Token "next" der
+     * vorherigen Antwort fortgesetzt, so dass der Aufwand von der Anzahl der Änderungen abhängt statt von der Größe
+     * des Katalogs.
+     *
+     * @param since Token "next" der vorherigen Antwort oder 0
+     * @param limit Maximale Anzahl an Änderungen
+     * @return Die Änderungen mit dem Token für den nächsten Aufruf
+     */
+    @Operation(summary = "Änderungen seit einem Token", tags = "Suchen")
+    @ApiResponse(responseCode = "200", description = "Änderungen gefunden")
+    @ApiResponse(responseCode = "400", description = "Ungültiges Token")
+    @GetMapping(path = CHANGES_PATH, produces = APPLICATION_JSON_VALUE)
+    public FacultyDeltas changes(
+        @RequestParam(defaultValue = "0") final long since,
+        @RequestParam(name = LIMIT_PARAM, defaultValue = DEFAULT_LIMIT) final int limit) {
+
+        log.debug("changes: since={}, limit={}", since, limit);
+        return syncService.changesSince(since, Math.clamp(limit, 1, MAX_LIMIT));
+    }
+
+    /**
+     * Änderungen an Fakultäten als Server-Sent Events abonnieren.
+     *
+     * @param ids IDs der Fakultäten, die den Client interessieren, oder keine für alle
+     * @param name Anfang des Namens der Fakultäten, die den Client interessieren, oder null
+     * @param lastEventId ID des zuletzt empfangenen Events beim Wiederaufbau der Verbindung oder null
+     * @return Verbindung für die Server-Sent Events
+     */
+    @Operation(summary = "Änderungen als Server-Sent Events", tags = "Suchen")
+    @ApiResponse(responseCode = "200", description = "Stream mit den Änderungen")
+    @GetMapping(path = EVENTS_PATH, produces = TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+        @RequestParam(name = "id", required = false) final Set<UUID> ids,
+        @RequestParam(required = false) final String name,
+        @RequestHeader(name = "Last-Event-ID", required = false) final String lastEventId) {
+
+        log.debug("events: ids={}, name={}, lastEventId={}", ids, name, lastEventId);
+        final var emitter = new SseEmitter(props.timeout().toMillis());
+        final var filter = new ChangeFilter(ids == null ? Set.of() : ids, name);
+        final var subscription = feed.subscribe(filter, lastEventId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(_ -> subscription.close());
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements ChangeSink {
+        @Override
+        public void send(final FacultyChange change) throws IOException {
+            emitter.send(SseEmitter.event()
+                .id(change.eventId().toString())
+                .name(change.type().name().toLowerCase(Locale.ROOT))
+                .data(change, APPLICATION_JSON));
+        }
+
+        @Override
+        public void gap() throws IOException {
+            emitter.send(SseEmitter.event().name("reset").data(""));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment(""));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
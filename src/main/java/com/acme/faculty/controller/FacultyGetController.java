@@ -1,7 +1,12 @@
 package com.acme.faculty.controller;
 
 import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.security.JwtService;
 import com.acme.faculty.service.FacultyReadService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.micrometer.observation.annotation.Observed;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
@@ -9,17 +14,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.CollectionModel;
-import org.springframework.hateoas.Link;
-import org.springframework.hateoas.LinkRelation;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,11 +34,16 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import static com.acme.faculty.controller.FacultyGetController.REST_PATH;
+import static org.springframework.hateoas.MediaTypes.HAL_JSON;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
 import static org.springframework.http.ResponseEntity.status;
 
@@ -57,9 +69,23 @@ public class FacultyGetController {
      * Muster für eine UUID.
      */
     public static final String ID_PATTERN = "[\\da-f]{8}-[\\da-f]{4}-[\\da-f]{4}-[\\da-f]{4}-[\\da-f]{12}";
+    /**
+     * Name des Query-Parameters für die maximale Anzahl an Fakultäten pro Seite.
+     */
+    public static final String LIMIT_PARAM = "limit";
+    /**
+     * Name des Query-Parameters für den Cursor der nächsten Seite.
+     */
+    public static final String CURSOR_PARAM = "cursor";
+
+    static final String DEFAULT_LIMIT = "50";
+    private static final int MAX_LIMIT = 500;
 
     private final FacultyReadService service;
     private final UriHelper uriHelper;
+    private final ObjectMapper objectMapper;
+    private final JwtService jwtService;
+    private final FacultyHalWriter halWriter;
 
     /**
      * Sucht eine Fakultät anhand ihrer ID.
@@ -67,7 +93,7 @@ public class FacultyGetController {
      * @param id Die ID der gesuchten Fakultät.
      * @param version Versionsnummer aus dem Header If-None-Match
      * @param request Das HTTP-Anfrageobjekt.
-     * @param authentication Authentication-Objekt für Security
+     * @param jwt Validiertes JWT für Security
      * @return Ein ResponseEntity mit der gefundenen Fakultät oder dem entsprechenden Statuscode.
      */
     @Operation(summary = "Suche nach ID", tags = "Pfad-Suche")
@@ -80,22 +106,28 @@ public class FacultyGetController {
         @PathVariable final UUID id,
         @RequestHeader("If-None-Match") final Optional<String> version,
         final HttpServletRequest request,
-        final Authentication authentication) {
-
-        final var user = (UserDetails) authentication.getPrincipal();
-        log.debug("getById: id={}, version={}, user={}", id, version, user);
+        @AuthenticationPrincipal final Jwt jwt) {
 
-        if (user == null) {
+        if (jwt == null) {
             log.error("Trotz Spring Security wurde getById() ohne Benutzerkennung aufgerufen");
             return status(FORBIDDEN).build();
         }
+        final var user = jwtService.getPrincipal(jwt);
+        log.debug("getById: id={}, version={}, user={}", id, version, user);
+
+        // bedingter GET-Request: Versionsindex statt DB-Zugriff
+        final var requestedVersion = version.flatMap(FacultyGetController::parseVersion);
+        if (requestedVersion.isPresent() && service.isCurrentVersion(id, requestedVersion.get(), user)) {
+            log.debug("getById: id={} ist laut Versionsindex aktuell", id);
+            return status(NOT_MODIFIED).eTag(version.get()).build();
+        }
 
         final var faculty = service.findById(id, user);
         log.debug("getById: {}", faculty);
 
         final var currentVersion = "\"" + faculty.getVersion() + '"';
-        if (version.orElse(null).equals(currentVersion)) {
-            return status(NOT_MODIFIED).build();
+        if (version.filter(currentVersion::equals).isPresent()) {
+            return status(NOT_MODIFIED).eTag(currentVersion).build();
         }
 
         final var model = facultyToModel(faculty, request);
@@ -104,34 +136,128 @@ public class FacultyGetController {
     }
 
     /**
-     * Sucht nach Fakultäten anhand der angegebenen Suchkriterien.
+     * Sucht nach Fakultäten anhand der angegebenen Suchkriterien. Das Ergebnis wird seitenweise mit Keyset-Pagination
+     * über Name und ID geliefert; gibt es weitere Fakultäten, enthält die Antwort einen Link "next". Die Fakultäten
+     * werden mit {@linkplain FacultyHalWriter} direkt als HAL+JSON in den Response geschrieben.
      *
      * @param searchCriteria Die Suchkriterien, die verwendet werden sollen.
+     * @param limit Maximale Anzahl an Fakultäten pro Seite.
+     * @param cursor Opaker Cursor aus dem Link "next" der vorherigen Seite.
      * @param request Das HTTP-Anfrageobjekt.
-     * @return Eine Sammlung von Fakultäten, die den angegebenen Suchkriterien entsprechen, als CollectionModel.
+     * @return Eine Seite von Fakultäten, die den angegebenen Suchkriterien entsprechen, als HAL+JSON.
      */
     @Operation(summary = "Suche mit Suchkriterien", tags = "Suchen")
     @ApiResponse(responseCode = "200", description = "Collection mit den Fakultäten")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Cursor")
     @ApiResponse(responseCode = "404", description = "keine Fakultäten gefunden")
     @GetMapping(produces = HAL_JSON_VALUE)
-    public CollectionModel<FacultyModel> get(
+    public ResponseEntity<StreamingResponseBody> get(
         @RequestParam @NonNull final MultiValueMap<String, String> searchCriteria,
+        @RequestParam(name = LIMIT_PARAM, defaultValue = DEFAULT_LIMIT) final int limit,
+        @RequestParam(name = CURSOR_PARAM, required = false) final String cursor,
         final HttpServletRequest request) {
 
-        log.debug("get: searchCriteria={}", searchCriteria);
-        final var baseUri = uriHelper.getBaseUri(request).toString();
+        final var criteria = new LinkedMultiValueMap<>(searchCriteria);
+        criteria.remove(LIMIT_PARAM);
+        criteria.remove(CURSOR_PARAM);
+        final var pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+        log.debug("get: searchCriteria={}, limit={}, cursor={}", criteria, pageSize, cursor);
+        final var links = uriHelper.getLinks(request);
 
-        final var models = service.find(searchCriteria)
-            .stream()
-            .map(faculty -> {
-                final var model = new FacultyModel(faculty);
-                model.add(Link.of(baseUri + '/' + faculty.getId()));
-                return model;
-            })
-            .toList();
+        final var window = service.find(criteria, KeysetCursor.decode(cursor), pageSize);
+        final var faculties = window.getContent();
+        log.debug("get: {} Fakultaeten", faculties.size());
 
-        log.debug("get: {}", models);
-        return CollectionModel.of(models);
+        final var nextHref = window.hasNext()
+            ? nextHref(links, criteria, pageSize, (KeysetScrollPosition) window.positionAt(faculties.size() - 1))
+            : null;
+        final StreamingResponseBody body = out -> halWriter.write(faculties, links, nextHref, out);
+        return ok().contentType(HAL_JSON).body(body);
+    }
+
+    /**
+     * Liefert die Fakultäten zu den Suchkriterien als NDJSON, d.h. eine Fakultät als JSON-Datensatz pro Zeile. Die
+     * Fakultäten werden über einen JDBC-Cursor gelesen und direkt in den Response geschrieben, so dass z.B. beim Export
+     * des gesamten Katalogs der Speicherbedarf konstant bleibt und das erste Byte ohne Verzögerung gesendet wird.
+     *
+     * @param searchCriteria Die Suchkriterien oder keine für alle Fakultäten.
+     * @return Response-Body, der die Fakultäten beim Lesen aus der DB schreibt.
+     */
+    @Operation(summary = "Export mit Suchkriterien als NDJSON", tags = "Suchen")
+    @ApiResponse(responseCode = "200", description = "Fakultäten als NDJSON")
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAsNdjson(
+        @RequestParam @NonNull final MultiValueMap<String, String> searchCriteria) {
+
+        final var criteria = new LinkedMultiValueMap<>(searchCriteria);
+        criteria.remove(LIMIT_PARAM);
+        criteria.remove(CURSOR_PARAM);
+        log.debug("getAsNdjson: searchCriteria={}", criteria);
+
+        // NDJSON: kein Einruecken, Zeilenende statt Leerzeichen zwischen den Datensaetzen, kein flush() pro Datensatz
+        final var writer = objectMapper
+            .writer()
+            .withRootValueSeparator((String) null)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        final StreamingResponseBody body = out -> {
+            try (var generator = objectMapper.getFactory().createGenerator(out)) {
+                final var count = new AtomicLong();
+                service.stream(criteria, faculty -> {
+                    writeLine(writer, generator, faculty);
+                    // erster Datensatz sofort, danach beim Fuellen der Puffer
+                    if (count.getAndIncrement() == 0) {
+                        flush(generator);
+                    }
+                });
+                log.debug("getAsNdjson: {} Fakultaeten geschrieben", count.get());
+            }
+        };
+        return ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private static void writeLine(final ObjectWriter writer, final JsonGenerator generator, final Faculty faculty) {
+        try {
+            writer.writeValue(generator, faculty);
+            generator.writeRaw('\n');
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void flush(final JsonGenerator generator) {
+        try {
+            generator.flush();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String nextHref(
+        final FacultyLinks links,
+        final MultiValueMap<String, String> criteria,
+        final int pageSize,
+        final KeysetScrollPosition last
+    ) {
+        return UriComponentsBuilder.fromUri(links.getBaseUri())
+            .queryParams(criteria)
+            .queryParam(LIMIT_PARAM, pageSize)
+            .queryParam(CURSOR_PARAM, KeysetCursor.encode(last))
+            .build()
+            .encode()
+            .toUriString();
+    }
+
+    static Optional<Integer> parseVersion(final String eTag) {
+        // If-None-Match: "<version>"
+        if (eTag.length() < 3 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Integer.parseInt(eTag, 1, eTag.length() - 1, 10));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -143,16 +269,7 @@ public class FacultyGetController {
      */
     private FacultyModel facultyToModel(final Faculty faculty, final HttpServletRequest request) {
         final var model = new FacultyModel(faculty);
-        final var baseUri = uriHelper.getBaseUri(request).toString();
-        final var idUri = baseUri + '/' + faculty.getId();
-
-        final var selfLink = Link.of(idUri);
-        final var listLink = Link.of(baseUri, LinkRelation.of("list"));
-        final var addLink = Link.of(baseUri, LinkRelation.of("add"));
-        final var updateLink = Link.of(idUri, LinkRelation.of("update"));
-        final var removeLink = Link.of(idUri, LinkRelation.of("remove"));
-
-        model.add(selfLink, listLink, addLink, updateLink, removeLink);
+        uriHelper.getLinks(request).addAll(model, faculty.getId());
         return model;
     }
 }
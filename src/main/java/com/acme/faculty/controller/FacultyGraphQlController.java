@@ -0,0 +1,165 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.security.JwtService;
+import com.acme.faculty.service.AccessForbiddenException;
+import com.acme.faculty.service.FacultyReadService;
+import com.acme.faculty.service.NotFoundException;
+import graphql.GraphQLError;
+import graphql.schema.DataFetchingEnvironment;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.GraphQlExceptionHandler;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.lang.Nullable;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Controller;
+
+/**
+ * Controller für Lesezugriffe mit GraphQL. Dekan und Kurse werden mit {@linkplain BatchMapping} über einen
+ * DataLoader aufgelöst, d.h. mit einer Query "IN (...)" für alle Fakultäten einer Ebene statt einer Query pro
+ * Fakultät.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+class FacultyGraphQlController {
+    private static final int MAX_FIRST = 500;
+
+    private final FacultyReadService service;
+    private final JwtService jwtService;
+
+    /**
+     * Suche einer Fakultät anhand der ID.
+     *
+     * @param id ID der gesuchten Fakultät
+     * @param jwt Validiertes JWT für Security
+     * @return Die gefundene Fakultät ohne Dekan und Kurse
+     */
+    @QueryMapping
+    Faculty faculty(@Argument final UUID id, @AuthenticationPrincipal final Jwt jwt) {
+        log.debug("faculty: id={}", id);
+        return service.findById(id, jwtService.getPrincipal(jwt));
+    }
+
+    /**
+     * Suche mit Suchkriterien und Keyset-Pagination über Name und ID.
+     *
+     * @param input Suchkriterien oder null
+     * @param first Maximale Anzahl an Fakultäten
+     * @param after Cursor der letzten Fakultät der vorherigen Seite oder null
+     * @param jwt Validiertes JWT für Security
+     * @return Die gefundenen Fakultäten ohne Dekan und Kurse
+     */
+    @QueryMapping
+    List<Faculty> faculties(
+        @Argument @Nullable final Map<String, String> input,
+        @Argument final int first,
+        @Argument @Nullable final String after,
+        @AuthenticationPrincipal final Jwt jwt
+    ) {
+        log.debug("faculties: input={}, first={}, after={}", input, first, after);
+        final Map<String, List<String>> searchCriteria = new HashMap<>();
+        if (input != null) {
+            input.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() != null)
+                .forEach(entry -> searchCriteria.put(entry.getKey(), List.of(entry.getValue())));
+        }
+        final var limit = Math.clamp(first, 1, MAX_FIRST);
+        return service.findFaculties(searchCriteria, KeysetCursor.decode(after), limit, jwtService.getPrincipal(jwt))
+            .getContent();
+    }
+
+    /**
+     * Die Dekane aller Fakultäten einer Ebene mit einer Query laden.
+     *
+     * @param faculties Die Fakultäten einer Ebene
+     * @return Die Dekane in der Reihenfolge der Fakultäten; null für eine inzwischen gelöschte Fakultät
+     */
+    @BatchMapping(typeName = "Faculty")
+    List<DeanSummary> dean(final List<Faculty> faculties) {
+        final var ids = faculties.stream().map(Faculty::getId).toList();
+        final var deans = service.findDeans(ids);
+        return ids.stream().map(deans::get).toList();
+    }
+
+    /**
+     * Die Kurse aller Fakultäten einer Ebene mit einer Query laden.
+     *
+     * @param faculties Die Fakultäten einer Ebene
+     * @return Die Kurse in der Reihenfolge der Fakultäten
+     */
+    @BatchMapping(typeName = "Faculty")
+    List<List<CourseSummary>> courses(final List<Faculty> faculties) {
+        final var ids = faculties.stream().map(Faculty::getId).toList();
+        final var courses = service.findCourses(ids);
+        return ids.stream().map(id -> courses.getOrDefault(id, List.of())).toList();
+    }
+
+    /**
+     * Cursor für die Seite nach einer Fakultät.
+     *
+     * @param faculty Die Fakultät
+     * @return Opaker Cursor für das Argument "after"
+     */
+    @SchemaMapping(typeName = "Faculty")
+    String cursor(final Faculty faculty) {
+        return KeysetCursor.encode(faculty.getId(), faculty.getName());
+    }
+
+    @GraphQlExceptionHandler
+    GraphQLError onNotFound(final NotFoundException ex, final DataFetchingEnvironment env) {
+        return GraphQLError.newError()
+            .errorType(ErrorType.NOT_FOUND)
+            .message(ex.getMessage())
+            .path(env.getExecutionStepInfo().getPath())
+            .location(env.getField().getSourceLocation())
+            .build();
+    }
+
+    @GraphQlExceptionHandler
+    GraphQLError onInvalidCursor(final InvalidCursorException ex, final DataFetchingEnvironment env) {
+        return GraphQLError.newError()
+            .errorType(ErrorType.BAD_REQUEST)
+            .message(ex.getMessage())
+            .path(env.getExecutionStepInfo().getPath())
+            .location(env.getField().getSourceLocation())
+            .build();
+    }
+
+    @GraphQlExceptionHandler
+    GraphQLError onAccessForbidden(final AccessForbiddenException ex, final DataFetchingEnvironment env) {
+        return GraphQLError.newError()
+            .errorType(ErrorType.FORBIDDEN)
+            .message(ex.getMessage())
+            .path(env.getExecutionStepInfo().getPath())
+            .location(env.getField().getSourceLocation())
+            .build();
+    }
+
+    @GraphQlExceptionHandler
+    GraphQLError onUsernameNotFound(final UsernameNotFoundException ex, final DataFetchingEnvironment env) {
+        log.error("Trotz Spring Security wurde GraphQL ohne Benutzerkennung aufgerufen");
+        return GraphQLError.newError()
+            .errorType(ErrorType.UNAUTHORIZED)
+            .message("Keine Benutzerkennung")
+            .path(env.getExecutionStepInfo().getPath())
+            .location(env.getField().getSourceLocation())
+            .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultySummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schreibt eine Collection von Fakultäten als HAL+JSON direkt mit dem JsonGenerator von Jackson, d.h. ohne
+ * FacultyModel, ohne das HAL-Modul von Spring HATEOAS und ohne Reflection. Das Format entspricht
+ * {@code CollectionModel<FacultyModel>}: "_embedded.faculties" mit Name, Dekan, Kursen und Link "self" sowie ggf.
+ * der Link "next". Null-Werte werden wie bei "spring.jackson.default-property-inclusion: non_null" weggelassen.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@RequiredArgsConstructor
+class FacultyHalWriter {
+    private static final String EMBEDDED = "_embedded";
+    private static final String COLLECTION_RELATION = "faculties";
+    private static final String LINKS = "_links";
+    private static final String HREF = "href";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Fakultäten als HAL+JSON schreiben.
+     *
+     * @param faculties Die Fakultäten einer Seite
+     * @param links Links zur Basis-URI
+     * @param nextHref URI der nächsten Seite oder null
+     * @param out Ziel, z.B. der Response-Body
+     * @throws IOException falls beim Schreiben ein Fehler auftritt
+     */
+    void write(
+        final List<FacultySummary> faculties,
+        final FacultyLinks links,
+        @Nullable final String nextHref,
+        final OutputStream out
+    ) throws IOException {
+        try (var generator = objectMapper.getFactory().createGenerator(out)) {
+            if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            if (!faculties.isEmpty()) {
+                generator.writeObjectFieldStart(EMBEDDED);
+                generator.writeArrayFieldStart(COLLECTION_RELATION);
+                for (final var faculty : faculties) {
+                    writeFaculty(generator, faculty, links);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            if (nextHref != null) {
+                generator.writeObjectFieldStart(LINKS);
+                writeLink(generator, "next", nextHref);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeFaculty(
+        final JsonGenerator generator,
+        final FacultySummary faculty,
+        final FacultyLinks links
+    ) throws IOException {
+        generator.writeStartObject();
+        writeString(generator, "name", faculty.name());
+        final var dean = faculty.dean();
+        if (dean != null) {
+            generator.writeFieldName("dean");
+            writeDean(generator, dean);
+        }
+        final var courses = faculty.courses();
+        if (courses != null) {
+            generator.writeArrayFieldStart("courses");
+            for (final var course : courses) {
+                writeCourse(generator, course);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeObjectFieldStart(LINKS);
+        writeLink(generator, "self", links.selfHref(faculty.id()));
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private static void writeDean(final JsonGenerator generator, final DeanSummary dean) throws IOException {
+        generator.writeStartObject();
+        writeUuid(generator, dean.id());
+        writeString(generator, "name", dean.name());
+        writeString(generator, "email", dean.email());
+        generator.writeEndObject();
+    }
+
+    private static void writeCourse(final JsonGenerator generator, final CourseSummary course) throws IOException {
+        generator.writeStartObject();
+        writeUuid(generator, course.id());
+        writeString(generator, "name", course.name());
+        generator.writeEndObject();
+    }
+
+    private static void writeLink(final JsonGenerator generator, final String rel, final String href)
+        throws IOException {
+        generator.writeObjectFieldStart(rel);
+        generator.writeStringField(HREF, href);
+        generator.writeEndObject();
+    }
+
+    private static void writeUuid(final JsonGenerator generator, @Nullable final UUID id) throws IOException {
+        if (id != null) {
+            generator.writeStringField("id", id.toString());
+        }
+    }
+
+    private static void writeString(final JsonGenerator generator, final String field, @Nullable final String value)
+        throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.acme.faculty.controller;
+
+import java.net.URI;
+import java.util.UUID;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+
+/**
+ * Vorberechnete HATEOAS-Links zu einer Basis-URI. Die Links "list" und "add" hängen nicht von der Fakultät ab und
+ * werden deshalb von allen Models gemeinsam verwendet; die Links "update" und "remove" übernehmen Href und Template
+ * des Links "self", statt die URI erneut zu parsen.
+ *
+ * @author Ahmad Hawarnah
+ */
+final class FacultyLinks {
+    private static final LinkRelation LIST = LinkRelation.of("list");
+    private static final LinkRelation ADD = LinkRelation.of("add");
+    private static final LinkRelation UPDATE = LinkRelation.of("update");
+    private static final LinkRelation REMOVE = LinkRelation.of("remove");
+
+    private final URI baseUri;
+    private final String idPrefix;
+    private final Link listLink;
+    private final Link addLink;
+
+    FacultyLinks(final String baseUri) {
+        this.baseUri = URI.create(baseUri);
+        idPrefix = baseUri + '/';
+        listLink = Link.of(baseUri, LIST);
+        addLink = Link.of(baseUri, ADD);
+    }
+
+    /**
+     * Die Basis-URI, d.h. ohne ID und ohne Query-Parameter.
+     *
+     * @return Basis-URI
+     */
+    URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Link "self" zu einer Fakultät.
+     *
+     * @param id ID der Fakultät
+     * @return Link "self"
+     */
+    Link self(final UUID id) {
+        return Link.of(selfHref(id));
+    }
+
+    /**
+     * URI des Links "self" zu einer Fakultät.
+     *
+     * @param id ID der Fakultät
+     * @return URI als String
+     */
+    String selfHref(final UUID id) {
+        return idPrefix + id;
+    }
+
+    /**
+     * Alle Links einer einzelnen Fakultät zum Model hinzufügen.
+     *
+     * @param model Model der Fakultät
+     * @param id ID der Fakultät
+     */
+    void addAll(final FacultyModel model, final UUID id) {
+        final var selfLink = self(id);
+        model.add(selfLink, listLink, addLink, selfLink.withRel(UPDATE), selfLink.withRel(REMOVE));
+    }
+}
@@ -22,6 +22,8 @@ interface FacultyMapper {
      * @return Eine Entity-Instanz von Fakultaet mit null als ID.
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "changeSeq", ignore = true)
+    @Mapping(target = "changedAt", ignore = true)
     Faculty toFaculty(FacultyDTO dto);
 
     /**
@@ -0,0 +1,84 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.service.FacultyReactiveReadService;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import static com.acme.faculty.controller.FacultyGetController.CURSOR_PARAM;
+import static com.acme.faculty.controller.FacultyGetController.LIMIT_PARAM;
+import static com.acme.faculty.controller.FacultyReactiveController.REACTIVE_PATH;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+/**
+ * Reaktiver Lesezugriff mit R2DBC als Alternative zu {@linkplain FacultyGetController}, z.B. für Lasttests mit sehr
+ * vielen gleichzeitigen Verbindungen. Der Flux wird von Spring MVC asynchron als NDJSON geschrieben, d.h. ohne einen
+ * Thread pro Request zu blockieren, und der nächste Datensatz wird erst nach dem Schreiben angefordert. Weil die
+ * Header vor dem ersten Datensatz gesendet werden, enthält jeder Datensatz seinen eigenen Cursor statt eines Links
+ * "next" im Header.
+ *
+ * @author Ahmad Hawarnah
+ */
+@RestController
+@RequestMapping(REACTIVE_PATH)
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+@SuppressWarnings("java:S1075")
+public class FacultyReactiveController {
+    /**
+     * Basispfad für den reaktiven Lesezugriff.
+     */
+    public static final String REACTIVE_PATH = "/reactive" + FacultyGetController.REST_PATH;
+
+    private final FacultyReactiveReadService service;
+
+    /**
+     * Sucht nach Fakultäten anhand der angegebenen Suchkriterien mit Keyset-Pagination über Name und ID.
+     *
+     * @param searchCriteria Die Suchkriterien oder keine für alle Fakultäten.
+     * @param limit Maximale Anzahl an Fakultäten oder keine Angabe für alle.
+     * @param cursor Opaker Cursor aus dem Datensatz der letzten Fakultät der vorherigen Seite.
+     * @return Die Fakultäten als NDJSON, d.h. eine Fakultät mit ihrem Cursor als JSON-Datensatz pro Zeile. Enthält
+     *         die Antwort weniger als "limit" Fakultäten, gibt es keine weitere Seite.
+     */
+    @Operation(summary = "Reaktive Suche mit Suchkriterien als NDJSON", tags = "Suchen")
+    @ApiResponse(responseCode = "200", description = "Fakultäten als NDJSON")
+    @ApiResponse(responseCode = "400", description = "Ungültiger Cursor")
+    @ApiResponse(responseCode = "404", description = "Ungültige Suchkriterien")
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public Flux<FacultyLine> get(
+        @RequestParam @NonNull final MultiValueMap<String, String> searchCriteria,
+        @RequestParam(name = LIMIT_PARAM, required = false) final Integer limit,
+        @RequestParam(name = CURSOR_PARAM, required = false) final String cursor) {
+
+        final var criteria = new LinkedMultiValueMap<>(searchCriteria);
+        criteria.remove(LIMIT_PARAM);
+        criteria.remove(CURSOR_PARAM);
+        log.debug("get: searchCriteria={}, limit={}, cursor={}", criteria, limit, cursor);
+        final var maxResults = limit == null ? null : Math.max(limit, 1);
+        return service.find(criteria, KeysetCursor.decode(cursor), maxResults)
+            .map(faculty -> new FacultyLine(faculty, KeysetCursor.encode(faculty.id(), faculty.name())));
+    }
+
+    /**
+     * Datensatz in der NDJSON-Antwort: die Felder der Fakultät und der Cursor, um nach ihr fortzusetzen.
+     *
+     * @param faculty Die Fakultät, deren Felder in den Datensatz übernommen werden
+     * @param cursor Opaker Cursor für den Query-Parameter "cursor" der nächsten Seite
+     */
+    public record FacultyLine(@JsonUnwrapped FacultySummary faculty, String cursor) {
+    }
+}
@@ -1,34 +1,55 @@
 package com.acme.faculty.controller;
 
 import com.acme.faculty.controller.FacultyDTO.OnCreate;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.service.BulkResult;
+import com.acme.faculty.service.FacultyWritePipeline;
 import com.acme.faculty.service.FacultyWriteService;
+import com.acme.faculty.service.NotFoundException;
+import com.acme.faculty.service.WriteStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.groups.Default;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import static com.acme.faculty.controller.FacultyGetController.ID_PATTERN;
 import static com.acme.faculty.controller.FacultyGetController.REST_PATH;
+import static com.acme.faculty.controller.FacultyGetController.parseVersion;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpStatus.PRECONDITION_REQUIRED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.ResponseEntity.accepted;
 import static org.springframework.http.ResponseEntity.created;
 
 /**
@@ -48,8 +69,31 @@ public class FacultyWriteController {
      * Der Pfad für Problemdetails.
      */
     public static final String PROBLEM_PATH = "/problem/";
+
+    /**
+     * Der Pfad, um viele Fakultäten auf einmal neu anzulegen.
+     */
+    public static final String BULK_PATH = "/bulk";
+
+    /**
+     * Der Pfad für den Status asynchroner Schreibaufträge.
+     */
+    public static final String STATUS_PATH = "/status";
+
+    /**
+     * Bedingung für Requests mit "Prefer: respond-async" gemäß RFC 7240.
+     */
+    static final String PREFER_ASYNC = "Prefer=respond-async";
+
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final FacultyWriteService service;
+    private final FacultyWritePipeline pipeline;
+    private final UriHelper uriHelper;
     private final FacultyMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final BulkProps bulkProps;
 
     /**
      * Fügt eine neue Fakultät hinzu.
@@ -76,22 +120,172 @@ public class FacultyWriteController {
     }
 
     /**
-     * Aktualisiert eine Fakultät anhand ihrer ID.
+     * Eine neue Fakultät asynchron anlegen, falls der Request den Header "Prefer: respond-async" enthält. Der Auftrag
+     * wird nur angenommen; das Ergebnis kann über den Status-Pfad im Header "Location" abgefragt werden.
+     *
+     * @param facultyDTO Die Daten der neuen Fakultät als DTO.
+     * @param request Die HTTP-Anfrage für die Generierung der Status-URI.
+     * @return ResponseEntity mit Statuscode 202 und dem Status des Auftrags.
+     */
+    @PostMapping(consumes = APPLICATION_JSON_VALUE, headers = PREFER_ASYNC)
+    @Operation(summary = "Eine neue Fakultaet asynchron anlegen", tags = "Neuanlegen")
+    @ApiResponse(responseCode = "202", description = "Auftrag angenommen")
+    @ApiResponse(responseCode = "422", description = "Validierungsfehler")
+    @ApiResponse(responseCode = "503", description = "Zu viele wartende Auftraege")
+    ResponseEntity<WriteStatus> postAsync(
+        @RequestBody @Validated({Default.class, OnCreate.class}) final FacultyDTO facultyDTO,
+        final HttpServletRequest request
+    ) {
+        log.debug("postAsync: {}", facultyDTO);
+        final var status = pipeline.submitCreate(() -> mapper.toFaculty(facultyDTO));
+        return toAccepted(status, request);
+    }
+
+    /**
+     * Viele Fakultäten auf einmal neu anlegen bzw. aktualisieren, z.B. für einen nächtlichen Abgleich. Der Request-Body
+     * ist entweder ein JSON-Array oder NDJSON mit einer Fakultät pro Zeile. Alle Fakultäten werden vorher eingelesen,
+     * damit Konflikte gemeinsam geprüft werden, und anschließend blockweise in eigenen Transaktionen gespeichert;
+     * enthält der Request-Body mehr als "app.bulk.max-items" Fakultäten, wird das Einlesen abgebrochen und der Request
+     * mit 413 abgelehnt.
+     *
+     * @param upsert true, falls eine vorhandene Fakultät mit gleichem Namen aktualisiert werden soll
+     * @param request Die HTTP-Anfrage mit den Fakultäten im Request-Body
+     * @return Das Ergebnis für jede Fakultät in der Reihenfolge des Request-Body
+     * @throws IOException falls der Request-Body nicht gelesen werden kann
+     * @throws BulkTooLargeException falls der Request-Body zu viele Fakultäten enthält
+     */
+    @PostMapping(
+        path = BULK_PATH,
+        consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE},
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Viele Fakultaeten neu anlegen oder aktualisieren", tags = "Neuanlegen")
+    @ApiResponse(responseCode = "200", description = "Ergebnis fuer jede Fakultaet")
+    @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
+    @ApiResponse(responseCode = "413", description = "Zu viele Fakultaeten im Request-Body")
+    ResponseEntity<List<BulkResult>> postBulk(
+        @RequestParam(defaultValue = "false") final boolean upsert,
+        final HttpServletRequest request
+    ) throws IOException {
+        final var faculties = new ArrayList<Faculty>();
+        try (var items = objectMapper.readerFor(FacultyDTO.class).<FacultyDTO>readValues(request.getInputStream())) {
+            while (items.hasNextValue()) {
+                if (faculties.size() == bulkProps.maxItems()) {
+                    throw new BulkTooLargeException(bulkProps.maxItems());
+                }
+                faculties.add(mapper.toFaculty(items.nextValue()));
+            }
+        } catch (final JsonProcessingException ex) {
+            final var inputMessage = new ServletServerHttpRequest(request);
+            throw new HttpMessageNotReadableException(ex.getOriginalMessage(), ex, inputMessage);
+        }
+        log.debug("postBulk: {} Fakultaeten, upsert={}", faculties.size(), upsert);
+
+        final var results = service.createAll(faculties, upsert);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Aktualisiert eine Fakultät anhand ihrer ID. Wie beim asynchronen Aktualisieren muss die erwartete
+     * Versionsnummer im Header "If-Match" angegeben sein.
      *
      * @param id         Die ID der zu aktualisierenden Fakultät.
      * @param facultyDTO Die neuen Daten der Fakultät als DTO.
+     * @param ifMatch    Die erwartete Versionsnummer, z.B. "0".
+     * @return ResponseEntity mit Statuscode 204 bzw. 428 ohne gültige Versionsnummer.
      */
     @Operation(summary = "Eine Fakultaet mit neuen Werten aktualisieren", tags = "Aktualisieren")
     @ApiResponse(responseCode = "204", description = "Aktualisiert")
     @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
     @ApiResponse(responseCode = "404", description = "Fakultaet nicht vorhanden")
+    @ApiResponse(responseCode = "412", description = "Versionsnummer veraltet")
     @ApiResponse(responseCode = "422", description = "Ungueltige Werte, Name vorhanden oder Dekan ist vorhanden")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @ApiResponse(responseCode = "428", description = "Versionsnummer fehlt")
     @PutMapping (path = "{id:" + ID_PATTERN + "}", consumes = APPLICATION_JSON_VALUE)
-    void put(@PathVariable final UUID id, @RequestBody @Valid final FacultyDTO facultyDTO) {
-        log.debug("put: id = {}, {}", id, facultyDTO);
+    ResponseEntity<Void> put(
+        @PathVariable final UUID id,
+        @RequestBody @Valid final FacultyDTO facultyDTO,
+        @RequestHeader(value = IF_MATCH, required = false) final String ifMatch
+    ) {
+        log.debug("put: id = {}, ifMatch={}, {}", id, ifMatch, facultyDTO);
+        final var version = ifMatch == null ? null : parseVersion(ifMatch).orElse(null);
+        if (version == null) {
+            return ResponseEntity.status(PRECONDITION_REQUIRED).build();
+        }
         final var facultyInput = mapper.toFaculty(facultyDTO);
-        service.update(id, facultyInput);
+        service.update(id, facultyInput, version);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Löscht eine Fakultät anhand ihrer ID. Clients, die mit "GET /rest/changes" synchronisieren, erhalten dafür eine
+     * Änderung vom Typ DELETE.
+     *
+     * @param id Die ID der zu löschenden Fakultät.
+     */
+    @Operation(summary = "Eine Fakultaet loeschen", tags = "Loeschen")
+    @ApiResponse(responseCode = "204", description = "Geloescht")
+    @ApiResponse(responseCode = "404", description = "Fakultaet nicht vorhanden")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping(path = "{id:" + ID_PATTERN + "}")
+    void delete(@PathVariable final UUID id) {
+        log.debug("delete: id={}", id);
+        service.delete(id);
+    }
+
+    /**
+     * Eine Fakultät asynchron aktualisieren, falls der Request den Header "Prefer: respond-async" enthält. Die
+     * erwartete Versionsnummer muss im Header "If-Match" angegeben sein.
+     *
+     * @param id Die ID der zu aktualisierenden Fakultät.
+     * @param facultyDTO Die neuen Daten der Fakultät als DTO.
+     * @param ifMatch Die erwartete Versionsnummer, z.B. "0".
+     * @param request Die HTTP-Anfrage für die Generierung der Status-URI.
+     * @return ResponseEntity mit Statuscode 202 und dem Status des Auftrags bzw. 428 ohne gültige Versionsnummer.
+     */
+    @PutMapping(path = "{id:" + ID_PATTERN + "}", consumes = APPLICATION_JSON_VALUE, headers = PREFER_ASYNC)
+    @Operation(summary = "Eine Fakultaet asynchron aktualisieren", tags = "Aktualisieren")
+    @ApiResponse(responseCode = "202", description = "Auftrag angenommen")
+    @ApiResponse(responseCode = "428", description = "Versionsnummer fehlt")
+    @ApiResponse(responseCode = "503", description = "Zu viele wartende Auftraege")
+    ResponseEntity<WriteStatus> putAsync(
+        @PathVariable final UUID id,
+        @RequestBody @Valid final FacultyDTO facultyDTO,
+        @RequestHeader(value = IF_MATCH, required = false) final String ifMatch,
+        final HttpServletRequest request
+    ) {
+        log.debug("putAsync: id={}, ifMatch={}, {}", id, ifMatch, facultyDTO);
+        final var version = ifMatch == null ? null : parseVersion(ifMatch).orElse(null);
+        if (version == null) {
+            return ResponseEntity.status(PRECONDITION_REQUIRED).build();
+        }
+        final var status = pipeline.submitUpdate(id, () -> mapper.toFaculty(facultyDTO), version);
+        return toAccepted(status, request);
+    }
+
+    /**
+     * Den Status eines asynchronen Schreibauftrags abfragen.
+     *
+     * @param id Die ID des Schreibauftrags.
+     * @return Der Status des Schreibauftrags.
+     * @throws NotFoundException falls der Auftrag unbekannt ist oder zu lange abgeschlossen ist.
+     */
+    @GetMapping(path = STATUS_PATH + "/{id:" + ID_PATTERN + "}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Status eines asynchronen Schreibauftrags", tags = "Suchen")
+    @ApiResponse(responseCode = "200", description = "Status gefunden")
+    @ApiResponse(responseCode = "404", description = "Auftrag nicht vorhanden")
+    ResponseEntity<WriteStatus> getStatus(@PathVariable final UUID id) {
+        final var status = pipeline.findStatus(id).orElseThrow(() -> new NotFoundException(id));
+        log.debug("getStatus: {}", status);
+        return ResponseEntity.ok(status);
+    }
+
+    private ResponseEntity<WriteStatus> toAccepted(final WriteStatus status, final HttpServletRequest request) {
+        final var location = URI.create(uriHelper.getBaseUri(request) + STATUS_PATH + '/' + status.id());
+        return accepted()
+            .location(location)
+            .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+            .body(status);
     }
 
     /**
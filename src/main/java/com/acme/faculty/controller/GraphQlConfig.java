@@ -0,0 +1,66 @@
+package com.acme.faculty.controller;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Konfiguration für GraphQL: Grenzen für Tiefe und Komplexität einer Query sowie ein Cache für geparste Queries.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface GraphQlConfig {
+    /**
+     * Bean-Methode, um Queries mit zu tiefer Schachtelung vor der Ausführung abzuweisen.
+     *
+     * @param props Spring-Properties für GraphQL
+     * @return Instrumentation für die maximale Tiefe
+     */
+    @Bean
+    default MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(final GraphQlProps props) {
+        return new MaxQueryDepthInstrumentation(props.maxDepth());
+    }
+
+    /**
+     * Bean-Methode, um Queries mit zu vielen Feldern vor der Ausführung abzuweisen.
+     *
+     * @param props Spring-Properties für GraphQL
+     * @return Instrumentation für die maximale Komplexität
+     */
+    @Bean
+    default MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(final GraphQlProps props) {
+        return new MaxQueryComplexityInstrumentation(props.maxComplexity());
+    }
+
+    /**
+     * Bean-Methode für einen Cache mit geparsten und validierten Queries. Der Schlüssel ist der Query-String; Werte
+     * wie IDs sollen deshalb als Variable übergeben werden. Fehlerhafte Queries werden nicht gecacht.
+     *
+     * @param props Spring-Properties für GraphQL
+     * @return Customizer, der den Cache in GraphQL registriert
+     */
+    @Bean
+    default GraphQlSourceBuilderCustomizer preparsedDocumentCustomizer(final GraphQlProps props) {
+        final var cache = Caffeine.newBuilder()
+            .maximumSize(props.documentCacheSize())
+            .<String, PreparsedDocumentEntry>build();
+        final PreparsedDocumentProvider provider = (executionInput, parseAndValidate) -> {
+            final var query = executionInput.getQuery();
+            final var cached = cache.getIfPresent(query);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            final var entry = parseAndValidate.apply(executionInput);
+            if (!entry.hasErrors()) {
+                cache.put(query, entry);
+            }
+            return CompletableFuture.completedFuture(entry);
+        };
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(provider));
+    }
+}
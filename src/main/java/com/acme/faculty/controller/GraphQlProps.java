@@ -0,0 +1,25 @@
+package com.acme.faculty.controller;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.graphql.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param maxDepth Maximale Schachtelungstiefe einer Query
+ * @param maxComplexity Maximale Komplexität einer Query, d.h. Anzahl der angefragten Felder
+ * @param documentCacheSize Maximale Anzahl an geparsten und validierten Queries im Cache
+ */
+@ConfigurationProperties(prefix = "app.graphql")
+public record GraphQlProps(
+    @DefaultValue("5")
+    int maxDepth,
+
+    @DefaultValue("100")
+    int maxComplexity,
+
+    @DefaultValue("500")
+    long documentCacheSize
+) {
+}
@@ -0,0 +1,21 @@
+package com.acme.faculty.controller;
+
+import lombok.Getter;
+
+/**
+ * Exception, falls der Cursor für Keyset-Pagination nicht gültig ist.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Getter
+class InvalidCursorException extends RuntimeException {
+    /**
+     * Der ungültige Cursor.
+     */
+    private final String cursor;
+
+    InvalidCursorException(final String cursor) {
+        super("Ungueltiger Cursor: " + cursor);
+        this.cursor = cursor;
+    }
+}
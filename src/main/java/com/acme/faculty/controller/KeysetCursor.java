@@ -0,0 +1,80 @@
+package com.acme.faculty.controller;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import static com.acme.faculty.service.FacultyReadService.CATALOG_KEY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Opaker Cursor für Keyset-Pagination über Name und ID einer Fakultät. Der Cursor ist die Base64-Codierung (URL-safe)
+ * von ID und Name der letzten Fakultät einer Seite. Stammt die Seite aus dem Katalog im Hauptspeicher, beginnt der
+ * Cursor vor der Codierung mit {@value #CATALOG_MARKER}, so dass die Folgeseite ebenfalls aus dem Katalog kommt.
+ *
+ * @author Ahmad Hawarnah
+ */
+final class KeysetCursor {
+    private static final int UUID_LENGTH = 36;
+    private static final char CATALOG_MARKER = '*';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Cursor für die Seite nach einer Fakultät erstellen.
+     *
+     * @param id ID der letzten Fakultät einer Seite
+     * @param name Name der letzten Fakultät einer Seite
+     * @return Opaker Cursor als String
+     */
+    static String encode(final UUID id, final String name) {
+        return toBase64(id.toString() + name);
+    }
+
+    /**
+     * Cursor für die Seite nach einer Position erstellen, die FacultyReadService für die letzte Fakultät einer Seite
+     * geliefert hat.
+     *
+     * @param position Position der letzten Fakultät einer Seite
+     * @return Opaker Cursor als String
+     */
+    static String encode(final KeysetScrollPosition position) {
+        final var keys = position.getKeys();
+        final var raw = keys.get("id").toString() + keys.get("name");
+        return toBase64(keys.containsKey(CATALOG_KEY) ? CATALOG_MARKER + raw : raw);
+    }
+
+    /**
+     * Einen Cursor in eine Position für Keyset-Pagination umwandeln.
+     *
+     * @param cursor Cursor aus dem Query-Parameter oder null für die erste Seite
+     * @return Position für Spring Data
+     * @throws InvalidCursorException falls der Cursor nicht gültig ist
+     */
+    static KeysetScrollPosition decode(final String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            final var decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            final var fromCatalog = !decoded.isEmpty() && decoded.charAt(0) == CATALOG_MARKER;
+            final var raw = fromCatalog ? decoded.substring(1) : decoded;
+            if (raw.length() <= UUID_LENGTH) {
+                throw new InvalidCursorException(cursor);
+            }
+            final var id = UUID.fromString(raw.substring(0, UUID_LENGTH));
+            final var name = raw.substring(UUID_LENGTH);
+            return fromCatalog
+                ? ScrollPosition.forward(Map.of("name", name, "id", id, CATALOG_KEY, true))
+                : ScrollPosition.forward(Map.of("name", name, "id", id));
+        } catch (final IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    private static String toBase64(final String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+    }
+}
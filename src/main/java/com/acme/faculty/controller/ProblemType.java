@@ -13,10 +13,30 @@ enum ProblemType {
      */
     CONSTRAINTS("constraints"),
 
+    /**
+     * Fehler, wenn z.B. ein Query-Parameter ungültig ist.
+     */
+    BAD_REQUEST("badRequest"),
+
     /**
      * Fehler, wenn z.B. Emailadresse bereits existiert.
      */
-    UNPROCESSABLE("unprocessable");
+    UNPROCESSABLE("unprocessable"),
+
+    /**
+     * Fehler, wenn z.B. der Request-Body zu viele Datensätze enthält.
+     */
+    CONTENT_TOO_LARGE("contentTooLarge"),
+
+    /**
+     * Fehler, wenn z.B. die Versionsnummer im Header "If-Match" veraltet ist.
+     */
+    PRECONDITION("precondition"),
+
+    /**
+     * Fehler, wenn z.B. die Queue für asynchrone Schreibaufträge voll ist.
+     */
+    SERVICE_UNAVAILABLE("serviceUnavailable");
 
     private final String value;
 
@@ -2,13 +2,15 @@ package com.acme.faculty.controller;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import static com.acme.faculty.controller.FacultyGetController.REST_PATH;
 
 /**
  * Hilfsklasse um URIs für HATEOAS oder für URIs in ProblemDetail zu ermitteln, falls ein API-Gateway verwendet wird.
+ * Die Basis-URI und die daraus abgeleiteten Links werden pro Schema, Host und Präfix einmal berechnet und gepuffert.
  *
  * @author Ahmad Hawarnah
  */
@@ -20,29 +22,47 @@ class UriHelper {
     private static final String X_FORWARDED_PREFIX = "x-forwarded-prefix";
     private static final String KUNDEN_PREFIX = "/kunden";
 
+    // die Header kommen vom Client: nur eine begrenzte Anzahl an Basis-URIs puffern
+    private static final int MAX_CACHED = 64;
+
+    private final Map<String, FacultyLinks> linksCache = new ConcurrentHashMap<>();
+
     /**
      * Basis-URI ermitteln, d.h. ohne Query-Parameter.
      *
      * @param request Servlet-Request
-     * @return Die Basis-URI als String
+     * @return Die Basis-URI
      */
     URI getBaseUri(final HttpServletRequest request) {
+        return getLinks(request).getBaseUri();
+    }
+
+    /**
+     * Vorberechnete Links zur Basis-URI des Requests ermitteln.
+     *
+     * @param request Servlet-Request
+     * @return Links zur Basis-URI
+     */
+    FacultyLinks getLinks(final HttpServletRequest request) {
         final var forwardedHost = request.getHeader(X_FORWARDED_HOST);
-        if (forwardedHost != null) {
+        final var baseUri = forwardedHost == null
+            // KEIN Forwarding von einem API-Gateway: URI aus Schema, Host, Port und Pfad
+            ? request.getScheme() + "://" + request.getServerName() + ':' + request.getServerPort() + REST_PATH
             // Forwarding durch Kubernetes Ingress Controller oder Spring Cloud Gateway
-            return getBaseUriForwarded(request, forwardedHost);
-        }
+            : getBaseUriForwarded(request, forwardedHost);
 
-        // KEIN Forwarding von einem API-Gateway
-        // URI aus Schema, Host, Port und Pfad
-        final var uriComponents = ServletUriComponentsBuilder.fromRequestUri(request).build();
-        final var baseUri =
-            uriComponents.getScheme() + "://" + uriComponents.getHost() + ':' + uriComponents.getPort() + REST_PATH;
-        log.debug("getBaseUri (ohne Forwarding): baseUri={}", baseUri);
-        return URI.create(baseUri);
+        final var links = linksCache.get(baseUri);
+        if (links != null) {
+            return links;
+        }
+        log.debug("getLinks: baseUri={}", baseUri);
+        if (linksCache.size() >= MAX_CACHED) {
+            return new FacultyLinks(baseUri);
+        }
+        return linksCache.computeIfAbsent(baseUri, FacultyLinks::new);
     }
 
-    private URI getBaseUriForwarded(final HttpServletRequest request, final String forwardedHost) {
+    private String getBaseUriForwarded(final HttpServletRequest request, final String forwardedHost) {
         // x-forwarded-host = Hostname des API-Gateways
 
         // "https" oder "http"
@@ -57,8 +77,6 @@ class UriHelper {
             log.trace("getBaseUriForwarded: Kein '{}' im Header", X_FORWARDED_PREFIX);
             forwardedPrefix = KUNDEN_PREFIX;
         }
-        final var baseUri = forwardedProto + "://" + forwardedHost + forwardedPrefix + '/' + REST_PATH;
-        log.debug("getBaseUriForwarded: baseUri={}", baseUri);
-        return URI.create(baseUri);
+        return forwardedProto + "://" + forwardedHost + forwardedPrefix + '/' + REST_PATH;
     }
 }
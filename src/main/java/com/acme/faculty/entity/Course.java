@@ -1,5 +1,6 @@
 package com.acme.faculty.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -14,6 +15,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 /**
  * Repräsentiert einen Kurs, der von einer Bildungseinrichtung angeboten wird.
@@ -23,6 +27,8 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "course")
+@Cacheable
+@Cache(usage = READ_WRITE, region = Course.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -30,6 +36,11 @@ import lombok.ToString;
 @Builder
 @ToString
 public class Course {
+    /**
+     * Region im 2nd-Level-Cache für Kurse.
+     */
+    public static final String CACHE_REGION = "course";
+
     /**
      * Eindeutige Kennung des Kurses.
      */
@@ -0,0 +1,18 @@
+package com.acme.faculty.entity;
+
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Zeile der Tabelle {@code course} für den reaktiven Lesezugriff mit R2DBC.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID des Kurses
+ * @param name Name des Kurses
+ * @param facultyId ID der Fakultät
+ * @param idx Position des Kurses in der Liste der Fakultät
+ */
+@Table("course")
+public record CourseRow(@Id UUID id, String name, UUID facultyId, int idx) {
+}
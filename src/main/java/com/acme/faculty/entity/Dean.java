@@ -1,5 +1,6 @@
 package com.acme.faculty.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -15,6 +16,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 /**
  * Repräsentiert einen Dekan an einer Bildungseinrichtung.
@@ -24,6 +28,8 @@ import lombok.ToString;
  */
 @Entity
 @Table(name = "dean")
+@Cacheable
+@Cache(usage = READ_WRITE, region = Dean.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -31,6 +37,11 @@ import lombok.ToString;
 @Builder
 @ToString
 public class Dean {
+    /**
+     * Region im 2nd-Level-Cache für Dekane.
+     */
+    public static final String CACHE_REGION = "dean";
+
     /**
      * Die eindeutige Kennung des Dekans.
      */
@@ -0,0 +1,17 @@
+package com.acme.faculty.entity;
+
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Zeile der Tabelle {@code dean} für den reaktiven Lesezugriff mit R2DBC.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID des Dekans
+ * @param name Name des Dekans
+ * @param email E-Mail-Adresse des Dekans
+ */
+@Table("dean")
+public record DeanRow(@Id UUID id, String name, String email) {
+}
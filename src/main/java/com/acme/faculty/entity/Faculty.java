@@ -1,5 +1,6 @@
 package com.acme.faculty.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
@@ -14,6 +15,7 @@ import jakarta.persistence.Version;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,11 +26,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.OptimisticLock;
 import org.hibernate.validator.constraints.UniqueElements;
 
 import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.CascadeType.REMOVE;
 import static jakarta.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 /**
  * Repräsentiert eine Fakultät in der Bildungseinrichtung.
@@ -38,6 +44,8 @@ import static jakarta.persistence.FetchType.LAZY;
  */
 @Entity
 @Table(name = "faculty")
+@Cacheable
+@Cache(usage = READ_WRITE, region = Faculty.CACHE_REGION)
 @NamedEntityGraph(name = Faculty.DEAN_GRAPH, attributeNodes = @NamedAttributeNode("dean"))
 @NamedEntityGraph(name = Faculty.DEAN_COURSES_GRAPH, attributeNodes =
     {@NamedAttributeNode("dean"), @NamedAttributeNode("courses")})
@@ -52,6 +60,26 @@ public class Faculty {
     public static final String DEAN_GRAPH = "Faculty.dean";
     public static final String DEAN_COURSES_GRAPH = "Faculty.deanCourses";
 
+    /**
+     * Region im 2nd-Level-Cache für Fakultäten.
+     */
+    public static final String CACHE_REGION = "faculty";
+
+    /**
+     * Region im 2nd-Level-Cache für die Collection der Kurse einer Fakultät.
+     */
+    public static final String COURSES_CACHE_REGION = "faculty.courses";
+
+    /**
+     * Anzahl an Fakultäten, deren Kurse beim Nachladen gemeinsam mit einer Query gelesen werden.
+     */
+    public static final int COURSES_BATCH_SIZE = 64;
+
+    /**
+     * DB-Sequenz für die Position in der Änderungsfolge, siehe {@linkplain #changeSeq}.
+     */
+    public static final String CHANGE_SEQUENCE = "faculty_change_seq";
+
     /**
      * Eindeutige Kennung für die Fakultät.
      */
@@ -87,8 +115,23 @@ public class Faculty {
     @OneToMany(cascade = {PERSIST, REMOVE}, orphanRemoval = true)
     @JoinColumn(name = "faculty_id")
     @OrderColumn(name = "idx", nullable = false)
+    @Cache(usage = READ_WRITE, region = COURSES_CACHE_REGION)
+    @BatchSize(size = COURSES_BATCH_SIZE)
     @NotEmpty
     @UniqueElements
     @Valid
     private List<Course> courses;
+
+    /**
+     * Position der letzten Änderung in der Änderungsfolge für die Synchronisation mit Deltas. Die endgültige Position
+     * wird erst unmittelbar vor dem Commit gesetzt und erhöht deshalb nicht die Versionsnummer.
+     */
+    @OptimisticLock(excluded = true)
+    private long changeSeq;
+
+    /**
+     * Zeitpunkt der letzten Änderung.
+     */
+    @OptimisticLock(excluded = true)
+    private Instant changedAt;
 }
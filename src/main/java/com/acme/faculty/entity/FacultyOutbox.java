@@ -0,0 +1,88 @@
+package com.acme.faculty.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Eintrag in der Tabelle {@code faculty_outbox} für eine neu angelegte oder aktualisierte Fakultät. Der Eintrag wird
+ * in derselben Transaktion wie die Fakultät geschrieben und später asynchron veröffentlicht.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Entity
+@Table(name = "faculty_outbox")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class FacultyOutbox {
+    /**
+     * Sequenz für die IDs.
+     */
+    public static final String SEQUENCE = "faculty_outbox_seq";
+
+    /**
+     * Fortlaufende ID, die auch die Reihenfolge der Veröffentlichung bestimmt. Die IDs werden von FacultyOutboxWriter
+     * für alle Einträge einer Transaktion gemeinsam reserviert, so dass Hibernate die INSERTs als Batch sendet, was
+     * mit IDENTITY nicht möglich wäre.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Die ID der Fakultät.
+     */
+    private UUID facultyId;
+
+    /**
+     * Die Versionsnummer der Fakultät nach dem Commit.
+     */
+    private int version;
+
+    /**
+     * Die Art der Änderung, z.B. "CREATED".
+     */
+    private String type;
+
+    /**
+     * Die Fakultät mit Dekan und Kursen als JSON.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    private String payload;
+
+    /**
+     * Zeitpunkt, zu dem der Eintrag geschrieben wurde.
+     */
+    private Instant createdAt;
+
+    /**
+     * Anzahl der fehlgeschlagenen Versuche, den Eintrag zu veröffentlichen.
+     */
+    private int attempts;
+
+    /**
+     * Frühester Zeitpunkt für den nächsten Versuch nach einem Fehler oder null für sofort.
+     */
+    private Instant nextAttemptAt;
+
+    /**
+     * Zeitpunkt der Veröffentlichung oder null, solange der Eintrag offen ist.
+     */
+    private Instant publishedAt;
+
+    /**
+     * Zeitpunkt, zu dem der Eintrag nach dem letzten erlaubten Versuch aufgegeben wurde ("Dead Letter"), oder null.
+     */
+    private Instant failedAt;
+}
@@ -0,0 +1,18 @@
+package com.acme.faculty.entity;
+
+import java.util.UUID;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Zeile der Tabelle {@code faculty} für den reaktiven Lesezugriff mit R2DBC, d.h. ohne Dekan und Kurse.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID der Fakultät
+ * @param version Versionsnummer
+ * @param name Name der Fakultät
+ * @param deanId ID des Dekans
+ */
+@Table("faculty")
+public record FacultyRow(@Id UUID id, int version, String name, UUID deanId) {
+}
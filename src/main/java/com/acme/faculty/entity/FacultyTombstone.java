@@ -0,0 +1,43 @@
+package com.acme.faculty.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Tombstone für eine gelöschte Fakultät in der Tabelle {@code faculty_tombstone}, damit Clients beim Synchronisieren
+ * mit Deltas auch das Löschen erkennen.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Entity
+@Table(name = "faculty_tombstone")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class FacultyTombstone {
+    /**
+     * Die ID der gelöschten Fakultät.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * Position des Löschens in der Änderungsfolge.
+     */
+    private long changeSeq;
+
+    /**
+     * Zeitpunkt des Löschens.
+     */
+    private Instant changedAt;
+}
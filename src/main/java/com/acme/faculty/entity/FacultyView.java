@@ -0,0 +1,92 @@
+package com.acme.faculty.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Denormalisierte Lesesicht auf eine Fakultät mit den Daten des Dekans und den Kursen als JSON-Array. Die Tabelle
+ * {@code faculty_view} wird beim Schreiben einer Fakultät in derselben Transaktion aktualisiert.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Entity
+@Table(name = "faculty_view")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@ToString
+public class FacultyView {
+    /**
+     * Die ID der Fakultät.
+     */
+    @Id
+    private UUID id;
+
+    /**
+     * Der Name der Fakultät.
+     */
+    private String name;
+
+    /**
+     * Die ID des Dekans.
+     */
+    private UUID deanId;
+
+    /**
+     * Der Name des Dekans.
+     */
+    private String deanName;
+
+    /**
+     * Die E-Mail-Adresse des Dekans.
+     */
+    private String deanEmail;
+
+    /**
+     * Die Kurse der Fakultät in der gespeicherten Reihenfolge.
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<CourseEntry> courses;
+
+    /**
+     * Lesesicht zu einer Fakultät erstellen.
+     *
+     * @param faculty Die Fakultät mit Dekan und Kursen
+     * @return Die Lesesicht
+     */
+    public static FacultyView of(final Faculty faculty) {
+        final var dean = faculty.getDean();
+        final var courses = faculty.getCourses()
+            .stream()
+            .map(course -> new CourseEntry(course.getId(), course.getName()))
+            .toList();
+        return new FacultyView(
+            faculty.getId(),
+            faculty.getName(),
+            dean.getId(),
+            dean.getName(),
+            dean.getEmail(),
+            courses
+        );
+    }
+
+    /**
+     * Ein Kurs im JSON-Array.
+     *
+     * @param id ID des Kurses
+     * @param name Name des Kurses
+     */
+    public record CourseEntry(UUID id, String name) {
+    }
+}
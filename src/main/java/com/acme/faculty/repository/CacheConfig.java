@@ -0,0 +1,91 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.Course;
+import com.acme.faculty.entity.Dean;
+import com.acme.faculty.entity.Faculty;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.List;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Konfiguration für den 2nd-Level-Cache von Hibernate mit Caffeine als JCache-Provider.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface CacheConfig {
+    /**
+     * Regionen im 2nd-Level-Cache: für Fakultäten, Dekane, Kurse und die Collection der Kurse einer Fakultät.
+     */
+    List<String> CACHE_REGIONS = List.of(
+        Faculty.CACHE_REGION,
+        Faculty.COURSES_CACHE_REGION,
+        Dean.CACHE_REGION,
+        Course.CACHE_REGION
+    );
+
+    /**
+     * Logger-Objekt.
+     */
+    Logger LOGGER = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * Bean-Methode für den JCache-CacheManager mit einem größenbeschränkten Caffeine-Cache pro Region.
+     *
+     * @param props Spring-Properties für den Cache
+     * @return CacheManager für Hibernate
+     */
+    @Bean
+    default CacheManager jcacheManager(final CacheProps props) {
+        final var cacheManager = Caching
+            .getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        CACHE_REGIONS
+            .stream()
+            // z.B. nach einem Restart durch DevTools sind die Caches bereits vorhanden
+            .filter(region -> cacheManager.getCache(region) == null)
+            .forEach(region -> {
+                final var config = new CaffeineConfiguration<>();
+                config.setMaximumSize(OptionalLong.of(props.maximumSize()));
+                config.setExpireAfterWrite(OptionalLong.of(props.expireAfterWrite().toNanos()));
+                config.setStatisticsEnabled(true);
+                cacheManager.createCache(region, config);
+            });
+        LOGGER.debug("jcacheManager: regions={}, props={}", CACHE_REGIONS, props);
+        return cacheManager;
+    }
+
+    /**
+     * Bean-Methode, damit Hibernate den CacheManager der Bean-Methode jcacheManager verwendet.
+     *
+     * @param cacheManager CacheManager mit den Regionen für Hibernate
+     * @return Customizer für die Properties von Hibernate
+     */
+    @Bean
+    default HibernatePropertiesCustomizer jcacheHibernatePropertiesCustomizer(final CacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    /**
+     * Bean-Methode für die Metriken "cache.gets" (hit/miss), "cache.puts", "cache.removals" und "cache.evictions" der
+     * einzelnen Regionen für Micrometer.
+     *
+     * @param cacheManager CacheManager mit den Regionen für Hibernate
+     * @return MeterBinder für die Regionen
+     */
+    @Bean
+    default MeterBinder jcacheMetrics(final CacheManager cacheManager) {
+        return registry -> CACHE_REGIONS.forEach(
+            region -> JCacheMetrics.monitor(registry, cacheManager.getCache(region), "cacheManager", "hibernate")
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.acme.faculty.repository;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.cache.*" des 2nd-Level-Cache von Hibernate.
+ *
+ * @author Ahmad Hawarnah
+ * @param maximumSize Maximale Anzahl an Einträgen pro Cache-Region, danach wird verdrängt
+ * @param expireAfterWrite Maximale Verweildauer eines Eintrags seit dem Schreiben in den Cache
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheProps(
+    @DefaultValue("10000")
+    long maximumSize,
+
+    @DefaultValue("1h")
+    Duration expireAfterWrite
+) {
+}
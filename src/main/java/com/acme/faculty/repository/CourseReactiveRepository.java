@@ -0,0 +1,22 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.CourseRow;
+import java.util.Collection;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reaktives Repository für den Lesezugriff auf die Tabelle {@code course} mit R2DBC.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface CourseReactiveRepository extends R2dbcRepository<CourseRow, UUID> {
+    /**
+     * Die Kurse zu Fakultäten mit einer Query laden.
+     *
+     * @param facultyIds IDs der Fakultäten
+     * @return Die Kurse sortiert nach Fakultät und Position
+     */
+    Flux<CourseRow> findByFacultyIdInOrderByFacultyIdAscIdxAsc(Collection<UUID> facultyIds);
+}
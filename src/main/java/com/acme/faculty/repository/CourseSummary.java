@@ -0,0 +1,14 @@
+package com.acme.faculty.repository;
+
+import java.util.UUID;
+
+/**
+ * Projektion auf die Spalten eines Kurses, die für die Suche benötigt werden.
+ *
+ * @author Ahmad Hawarnah
+ * @param facultyId ID der Fakultät, zu der der Kurs gehört
+ * @param id ID des Kurses
+ * @param name Name des Kurses
+ */
+public record CourseSummary(UUID facultyId, UUID id, String name) {
+}
@@ -0,0 +1,28 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.Faculty;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specification von SpecificationBuilder, die sich die Namen der verwendeten Suchkriterien merkt, z.B. für die Tags
+ * der Metriken in RepositoryMetrics.
+ *
+ * @author Ahmad Hawarnah
+ * @param criteria Sortierte, durch Komma getrennte Namen der Suchkriterien, z.B. "dean,name"
+ * @param delegate Die eigentliche Specification
+ */
+public record CriteriaSpecification(String criteria, Specification<Faculty> delegate)
+    implements Specification<Faculty> {
+    @Override
+    public Predicate toPredicate(
+        final Root<Faculty> root,
+        final CriteriaQuery<?> query,
+        final CriteriaBuilder builder
+    ) {
+        return delegate.toPredicate(root, query, builder);
+    }
+}
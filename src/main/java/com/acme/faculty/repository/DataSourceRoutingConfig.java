@@ -0,0 +1,94 @@
+package com.acme.faculty.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Konfiguration für das Routing von Read-Only-Transaktionen auf Replikate. Die Beans werden nur erzeugt, wenn
+ * mindestens ein Replikat in "app.datasource.replicas" konfiguriert ist, z.B. zwei lokale H2- oder
+ * PostgreSQL-Instanzen zum Testen.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface DataSourceRoutingConfig {
+    /**
+     * Logger-Objekt.
+     */
+    Logger LOGGER = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    /**
+     * Bean-Methode für den Connection-Pool der primären DB gemäß "spring.datasource.*".
+     *
+     * @param properties Spring-Properties für die DataSource
+     * @return Connection-Pool der primären DB
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(prefix = "app.datasource", name = "replicas[0].url")
+    default HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        final var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Bean-Methode für die DataSource, die Read-Only-Transaktionen auf die Replikate verteilt.
+     *
+     * @param primaryDataSource Connection-Pool der primären DB
+     * @param props Spring-Properties für das Routing
+     * @return DataSource mit den Connection-Pools der Replikate
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource", name = "replicas[0].url")
+    default ReadWriteRoutingDataSource routingDataSource(
+        final HikariDataSource primaryDataSource,
+        final RoutingDataSourceProps props
+    ) {
+        final var replicas = IntStream.range(0, props.replicas().size())
+            .mapToObj(index -> {
+                final var replica = props.replicas().get(index);
+                final var dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+                dataSource.setPoolName("replica-" + index);
+                dataSource.setReadOnly(true);
+                // nicht die 30 s von Hikari: ein ausgefallenes Replikat soll schnell ausgelassen werden
+                dataSource.setConnectionTimeout(props.replicaConnectionTimeout().toMillis());
+                return (DataSource) dataSource;
+            })
+            .toList();
+        LOGGER.info("routingDataSource: {} Replikate fuer Read-Only-Transaktionen", replicas.size());
+        return new ReadWriteRoutingDataSource(
+            primaryDataSource,
+            replicas,
+            new ReadYourWrites(props.readYourWrites()),
+            props
+        );
+    }
+
+    /**
+     * Bean-Methode für die DataSource, die von JPA, Flyway usw. verwendet wird.
+     *
+     * @param routingDataSource DataSource mit Routing auf die Replikate
+     * @return DataSource, die die Verbindung erst beim ersten Statement holt, wenn readOnly der Transaktion bekannt ist
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.datasource", name = "replicas[0].url")
+    default DataSource dataSource(final ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
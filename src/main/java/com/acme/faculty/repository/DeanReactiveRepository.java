@@ -0,0 +1,13 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.DeanRow;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * Reaktives Repository für den Lesezugriff auf die Tabelle {@code dean} mit R2DBC.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface DeanReactiveRepository extends R2dbcRepository<DeanRow, UUID> {
+}
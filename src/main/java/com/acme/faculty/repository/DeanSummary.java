@@ -0,0 +1,14 @@
+package com.acme.faculty.repository;
+
+import java.util.UUID;
+
+/**
+ * Projektion auf die Spalten eines Dekans, die für die Suche benötigt werden.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID des Dekans
+ * @param name Name des Dekans
+ * @param email E-Mail-Adresse des Dekans
+ */
+public record DeanSummary(UUID id, String name, String email) {
+}
@@ -0,0 +1,16 @@
+package com.acme.faculty.repository;
+
+import java.util.UUID;
+
+/**
+ * Projektion auf die eindeutigen Namen einer Fakultät und ihres Dekans sowie die E-Mail-Adresse des Dekans, z.B. für
+ * die Prüfung beim Neuanlegen vieler Fakultäten.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID der Fakultät
+ * @param name Name der Fakultät
+ * @param deanName Name des Dekans
+ * @param deanEmail E-Mail-Adresse des Dekans
+ */
+public record FacultyNames(UUID id, String name, String deanName, String deanEmail) {
+}
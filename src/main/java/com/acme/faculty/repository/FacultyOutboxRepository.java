@@ -0,0 +1,56 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.FacultyOutbox;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Repository für die Tabelle {@code faculty_outbox}.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface FacultyOutboxRepository extends JpaRepository<FacultyOutbox, Long> {
+    /**
+     * Die ältesten offenen Einträge lesen und bis zum Ende der Transaktion sperren. Von anderen Transaktionen
+     * gesperrte Einträge werden übersprungen statt auf sie zu warten. Pro Fakultät wird nur der älteste offene Eintrag
+     * geliefert, so dass die Änderungen einer Fakultät auch mit mehreren Threads und Instanzen in der Reihenfolge
+     * ihrer Commits veröffentlicht werden. Ein Eintrag, der nach einem Fehler auf den nächsten Versuch wartet, hält
+     * deshalb die späteren Einträge derselben Fakultät zurück; ein aufgegebener Eintrag dagegen nicht.
+     *
+     * @param limit Maximale Anzahl an Einträgen
+     * @param now Aktueller Zeitpunkt für die Wartezeit nach einem Fehler
+     * @return Die gesperrten Einträge sortiert nach ID
+     */
+    @Query(value = """
+        SELECT *
+        FROM faculty_outbox o
+        WHERE o.published_at IS NULL
+          AND o.failed_at IS NULL
+          AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= :now)
+          AND NOT EXISTS (
+            SELECT 1
+            FROM faculty_outbox p
+            WHERE p.faculty_id = o.faculty_id
+              AND p.published_at IS NULL
+              AND p.failed_at IS NULL
+              AND p.id < o.id
+          )
+        ORDER BY o.id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<FacultyOutbox> lockPending(int limit, Instant now);
+
+    /**
+     * Veröffentlichte Einträge löschen.
+     *
+     * @param before Einträge, die vor diesem Zeitpunkt veröffentlicht wurden
+     * @return Anzahl der gelöschten Einträge
+     */
+    @Modifying
+    @Query("DELETE FROM #{#entityName} o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(Instant before);
+}
@@ -0,0 +1,50 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.FacultyRow;
+import java.util.UUID;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reaktives Repository für den Lesezugriff auf die Tabelle {@code faculty} mit R2DBC.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface FacultyReactiveRepository extends R2dbcRepository<FacultyRow, UUID> {
+    /**
+     * Fakultäten mit Keyset-Pagination über Name und ID suchen. Die Suchkriterien entsprechen denen von
+     * {@linkplain SpecificationBuilder}: Teilstring ohne Beachtung der Groß-/Kleinschreibung; null bedeutet keine
+     * Einschränkung.
+     *
+     * @param name Teil des Namens der Fakultät oder null
+     * @param dean Teil des Namens des Dekans oder null
+     * @param course Teil des Namens eines Kurses oder null
+     * @param afterName Name der letzten Fakultät der vorherigen Seite oder null für die erste Seite
+     * @param afterId ID der letzten Fakultät der vorherigen Seite oder null für die erste Seite
+     * @param limit Maximale Anzahl an Fakultäten oder null für alle
+     * @return Die gefundenen Fakultäten sortiert nach Name und ID
+     */
+    @Query("""
+        SELECT f.id, f.version, f.name, f.dean_id
+        FROM faculty f
+        JOIN dean d ON d.id = f.dean_id
+        WHERE (CAST(:name AS text) IS NULL OR lower(f.name) LIKE '%' || lower(:name) || '%')
+          AND (CAST(:dean AS text) IS NULL OR lower(d.name) LIKE '%' || lower(:dean) || '%')
+          AND (CAST(:course AS text) IS NULL OR EXISTS (
+                SELECT 1 FROM course c WHERE c.faculty_id = f.id AND lower(c.name) LIKE '%' || lower(:course) || '%'
+              ))
+          AND (CAST(:afterName AS text) IS NULL OR (f.name, f.id) > (:afterName, :afterId))
+        ORDER BY f.name, f.id
+        LIMIT :limit
+    """)
+    Flux<FacultyRow> findPage(
+        @Nullable String name,
+        @Nullable String dean,
+        @Nullable String course,
+        @Nullable String afterName,
+        @Nullable UUID afterId,
+        @Nullable Integer limit
+    );
+}
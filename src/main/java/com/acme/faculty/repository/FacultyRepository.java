@@ -1,11 +1,14 @@
 package com.acme.faculty.repository;
 
 import com.acme.faculty.entity.Faculty;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
@@ -13,16 +16,26 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import static com.acme.faculty.entity.Faculty.DEAN_COURSES_GRAPH;
+import static com.acme.faculty.entity.Faculty.DEAN_GRAPH;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
 
 /**
- * Repository für den DB-Zugriff bei Fakultäten.
+ * Repository für den DB-Zugriff bei Fakultäten. Die Teilstring-Suche verwendet "lower(...) LIKE", damit PostgreSQL
+ * die Trigram-Indexe aus V1.2__Trigram.sql nutzen kann.
  *
  * @author Ahmad Hawarnah
  */
 @Repository
 public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpecificationExecutor<Faculty> {
+    /**
+     * Anzahl Datensätze, die beim Streamen pro Roundtrip vom JDBC-Treiber gelesen werden.
+     */
+    String STREAM_FETCH_SIZE = "256";
 
     @EntityGraph(DEAN_COURSES_GRAPH)
     @NonNull
@@ -34,6 +47,69 @@ public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpec
     @Override
     List<Faculty> findAll(@NonNull Specification<Faculty> spec);
 
+    /**
+     * Alle Faculties nur mit Dean laden. Die Courses werden bei Bedarf in Batches nachgeladen.
+     *
+     * @return Alle Faculties
+     */
+    @Query("""
+        SELECT f
+        FROM #{#entityName} f
+    """)
+    @EntityGraph(DEAN_GRAPH)
+    List<Faculty> findAllFetchDean();
+
+    /**
+     * Alle Faculties mit Dean als Stream über einen JDBC-Cursor lesen. Die Courses werden nicht per Fetch Join
+     * gelesen, weil sich dadurch die Zeilen im Cursor vervielfachen würden, sondern beim Zugriff in Batches
+     * nachgeladen. Der Stream muss innerhalb einer Transaktion verarbeitet und anschließend geschlossen werden. Ein
+     * Export verdrängt nicht die Einträge im 2nd-Level-Cache.
+     *
+     * @return Stream mit allen Faculties sortiert nach Name und ID
+     */
+    @Query("""
+        SELECT f
+        FROM #{#entityName} f
+        ORDER BY f.name, f.id
+    """)
+    @EntityGraph(DEAN_GRAPH)
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    Stream<Faculty> streamAll();
+
+    /**
+     * Faculties anhand von Suchkriterien mit Dean als Stream über einen JDBC-Cursor lesen. Ein Suchkriterium mit dem
+     * Wert null wird nicht ausgewertet. Wie bei {@linkplain #streamAll()} werden die Courses in Batches nachgeladen.
+     *
+     * @param name Teilstring für den Namen der Faculty oder null
+     * @param dean Teilstring für den Namen des Dean oder null
+     * @param course Teilstring für den Namen eines Course oder null
+     * @return Stream mit den gefundenen Faculties sortiert nach Name und ID
+     */
+    @Query("""
+        SELECT f
+        FROM #{#entityName} f
+        JOIN f.dean d
+        WHERE (:name IS NULL OR lower(f.name) LIKE concat('%', lower(:name), '%'))
+          AND (:dean IS NULL OR lower(d.name) LIKE concat('%', lower(:dean), '%'))
+          AND (:course IS NULL OR EXISTS (
+            SELECT c.id
+            FROM f.courses c
+            WHERE lower(c.name) LIKE concat('%', lower(:course), '%')
+          ))
+        ORDER BY f.name, f.id
+    """)
+    @EntityGraph(DEAN_GRAPH)
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    Stream<Faculty> streamBy(String name, String dean, String course);
+
     @EntityGraph(DEAN_COURSES_GRAPH)
     @NonNull
     @Override
@@ -54,6 +130,21 @@ public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpec
     @NonNull
     Optional<Faculty> findByIdFetchDeanAndCourses(UUID id);
 
+    /**
+     * Faculties einschließlich Dean und Courses anhand ihrer IDs laden, z.B. für eine Seite bei Keyset-Pagination.
+     *
+     * @param ids IDs der Faculties
+     * @return Die gefundenen Faculties sortiert nach Name und ID
+     */
+    @Query("""
+        SELECT DISTINCT f
+        FROM #{#entityName} f
+        WHERE f.id IN :ids
+        ORDER BY f.name, f.id
+    """)
+    @EntityGraph(DEAN_COURSES_GRAPH)
+    List<Faculty> findAllByIdFetchDeanAndCourses(Collection<UUID> ids);
+
     /**
      * Faculty anhand des Namens suchen.
      *
@@ -69,6 +160,21 @@ public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpec
     @EntityGraph(DEAN_COURSES_GRAPH)
     List<Faculty> findByName(CharSequence name);
 
+    /**
+     * Faculty anhand des Namens nur mit Dean suchen. Die Courses werden bei Bedarf in Batches nachgeladen.
+     *
+     * @param name Der (Teil-)Name der gesuchten Faculties
+     * @return Die gefundenen Faculties oder eine leere Collection
+     */
+    @Query("""
+        SELECT f
+        FROM #{#entityName} f
+        WHERE lower(f.name) LIKE concat('%', lower(:name), '%')
+        ORDER BY f.name
+    """)
+    @EntityGraph(DEAN_GRAPH)
+    List<Faculty> findByNameFetchDean(CharSequence name);
+
     /**
      * Findet Fakultäten anhand der Zugehörigkeit eines Dekans.
      *
@@ -99,12 +205,85 @@ public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpec
     @EntityGraph(DEAN_COURSES_GRAPH)
     Collection<Faculty> findByCourse(CharSequence course);
 
+    /**
+     * Fakultäten mit Dekan als Projektion laden, d.h. nur die Spalten für die Suche und ohne Entities.
+     *
+     * @param ids IDs der Fakultäten
+     * @return Die gefundenen Fakultäten ohne Kurse in beliebiger Reihenfolge
+     */
+    @Query("""
+        SELECT new com.acme.faculty.repository.FacultySummary(f.id, f.name, d.id, d.name, d.email)
+        FROM #{#entityName} f
+        JOIN f.dean d
+        WHERE f.id IN :ids
+    """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<FacultySummary> findSummaries(Collection<UUID> ids);
+
+    /**
+     * Die Kurse zu Fakultäten als Projektion laden.
+     *
+     * @param ids IDs der Fakultäten
+     * @return Die Kurse sortiert nach Fakultät und in der gespeicherten Reihenfolge
+     */
+    @Query("""
+        SELECT new com.acme.faculty.repository.CourseSummary(f.id, c.id, c.name)
+        FROM #{#entityName} f
+        JOIN f.courses c
+        WHERE f.id IN :ids
+        ORDER BY f.id, index(c)
+    """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<CourseSummary> findCourseSummaries(Collection<UUID> ids);
+
+    /**
+     * Fakultäten lesen, die nach einer Position in der Änderungsfolge neu angelegt oder aktualisiert wurden.
+     *
+     * @param since Position in der Änderungsfolge
+     * @param limit Maximale Anzahl an Fakultäten
+     * @return Die Fakultäten ohne Dekan und Kurse sortiert nach der Änderungsfolge
+     */
+    @Query("""
+        SELECT f
+        FROM #{#entityName} f
+        WHERE f.changeSeq > :since
+        ORDER BY f.changeSeq
+    """)
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Faculty> findChangedSince(long since, Limit limit);
+
+    /**
+     * Vorhandene Fakultäten ermitteln, deren Name, Dekan oder E-Mail-Adresse des Dekans in einer der Mengen enthalten
+     * ist.
+     *
+     * @param names Namen von Fakultäten
+     * @param deanNames Namen von Dekanen
+     * @param deanEmails E-Mail-Adressen von Dekanen
+     * @return ID, Name, Name und E-Mail-Adresse des Dekans der gefundenen Fakultäten
+     */
+    @Query("""
+        SELECT new com.acme.faculty.repository.FacultyNames(f.id, f.name, d.name, d.email)
+        FROM #{#entityName} f
+        JOIN f.dean d
+        WHERE f.name IN :names OR d.name IN :deanNames OR d.email IN :deanEmails
+    """)
+    List<FacultyNames> findNames(
+        Collection<String> names,
+        Collection<String> deanNames,
+        Collection<String> deanEmails
+    );
+
     /**
      * Überprüft, ob ein Fakultätsname bereits existiert.
      *
      * @param name Der zu überprüfende Fakultätsname
-     * @return true, wenn ein Fakultätsname existiert, der den angegebenen Namen enthält, ansonsten false
+     * @return true, wenn eine Fakultät mit dem angegebenen Namen existiert, ansonsten false
      */
+    @Query("""
+        SELECT count(f) > 0
+        FROM #{#entityName} f
+        WHERE f.name = :name
+    """)
     @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
     boolean isNameExist(String name);
 
@@ -112,8 +291,14 @@ public interface FacultyRepository extends JpaRepository<Faculty, UUID>, JpaSpec
      * Überprüft, ob ein Dekan bereits existiert.
      *
      * @param dean Der zu überprüfende Name des Dekans
-     * @return true, wenn ein Dekan existiert, der den angegebenen Namen enthält, ansonsten false
+     * @return true, wenn eine Fakultät einen Dekan mit dem angegebenen Namen hat, ansonsten false
      */
+    @Query("""
+        SELECT count(f) > 0
+        FROM #{#entityName} f
+        JOIN f.dean d
+        WHERE d.name = :dean
+    """)
     @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
     boolean isDeanExist(String dean);
 }
@@ -0,0 +1,46 @@
+package com.acme.faculty.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projektion auf die Spalten einer Fakultät mit Dekan und Kursen, die für die Suche benötigt werden. Im Gegensatz zur
+ * Entity wird eine Projektion nicht vom Persistence Context verwaltet, d.h. es gibt weder Snapshots noch Dirty
+ * Checking.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID der Fakultät
+ * @param name Name der Fakultät
+ * @param dean Dekan der Fakultät
+ * @param courses Kurse der Fakultät in der gespeicherten Reihenfolge
+ */
+public record FacultySummary(UUID id, String name, DeanSummary dean, List<CourseSummary> courses) {
+    /**
+     * Konstruktor für JPQL, d.h. ohne Kurse.
+     *
+     * @param id ID der Fakultät
+     * @param name Name der Fakultät
+     * @param deanId ID des Dekans
+     * @param deanName Name des Dekans
+     * @param deanEmail E-Mail-Adresse des Dekans
+     */
+    public FacultySummary(
+        final UUID id,
+        final String name,
+        final UUID deanId,
+        final String deanName,
+        final String deanEmail
+    ) {
+        this(id, name, new DeanSummary(deanId, deanName, deanEmail), List.of());
+    }
+
+    /**
+     * Kopie mit den Kursen der Fakultät.
+     *
+     * @param courses Kurse der Fakultät
+     * @return Kopie mit den Kursen
+     */
+    public FacultySummary withCourses(final List<CourseSummary> courses) {
+        return new FacultySummary(id, name, dean, courses);
+    }
+}
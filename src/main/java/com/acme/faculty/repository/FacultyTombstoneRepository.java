@@ -0,0 +1,23 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.FacultyTombstone;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository für die Tabelle {@code faculty_tombstone}.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface FacultyTombstoneRepository extends JpaRepository<FacultyTombstone, UUID> {
+    /**
+     * Tombstones nach einer Position in der Änderungsfolge lesen.
+     *
+     * @param since Position in der Änderungsfolge
+     * @param limit Maximale Anzahl an Tombstones
+     * @return Die Tombstones sortiert nach der Änderungsfolge
+     */
+    List<FacultyTombstone> findByChangeSeqGreaterThanOrderByChangeSeq(long since, Limit limit);
+}
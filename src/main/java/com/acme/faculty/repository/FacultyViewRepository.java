@@ -0,0 +1,17 @@
+package com.acme.faculty.repository;
+
+import com.acme.faculty.entity.FacultyView;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository für die denormalisierte Tabelle {@code faculty_view}.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Repository
+public interface FacultyViewRepository
+    extends JpaRepository<FacultyView, UUID>, JpaSpecificationExecutor<FacultyView> {
+}
@@ -0,0 +1,20 @@
+package com.acme.faculty.repository;
+
+/**
+ * Strategie, mit der Dekan und Kurse beim Suchen mehrerer Fakultäten geladen werden.
+ *
+ * @author Ahmad Hawarnah
+ */
+public enum FetchStrategy {
+    /**
+     * Dekan und Kurse werden mit dem Entity Graph {@code Faculty.deanCourses} in einer einzigen Query geladen. Jede
+     * Fakultät wird dabei mit ihrem Dekan für jeden Kurs erneut übertragen.
+     */
+    GRAPH,
+
+    /**
+     * Zuerst werden die Fakultäten mit ihrem Dekan geladen, danach die Kurse für jeweils bis zu
+     * {@code Faculty.COURSES_BATCH_SIZE} Fakultäten mit einer Query über die Fremdschlüssel.
+     */
+    BATCH
+}
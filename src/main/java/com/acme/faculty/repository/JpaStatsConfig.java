@@ -0,0 +1,99 @@
+package com.acme.faculty.repository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jpa.HibernateQueryMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.StatisticsSettings;
+import org.hibernate.stat.internal.StatisticsImpl;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Konfiguration für die Statistik von Hibernate: Ringpuffer für langsame SQL-Anweisungen, Actuator-Endpoint
+ * "jpa-stats" und zusätzliche Metriken für Micrometer.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface JpaStatsConfig {
+    /**
+     * Bean-Methode für den Ringpuffer mit den langsamen SQL-Anweisungen.
+     *
+     * @param props Spring-Properties für die Statistik
+     * @return Ringpuffer für langsame SQL-Anweisungen
+     */
+    @Bean
+    default SlowQueryLog slowQueryLog(final JpaStatsProps props) {
+        return new SlowQueryLog(props.slowQueryCapacity());
+    }
+
+    /**
+     * Bean-Methode, damit Hibernate langsame SQL-Anweisungen nicht nur protokolliert, sondern zusätzlich in den
+     * Ringpuffer einträgt.
+     *
+     * @param slowQueryLog Ringpuffer für langsame SQL-Anweisungen
+     * @return Customizer für die Properties von Hibernate
+     */
+    @Bean
+    default HibernatePropertiesCustomizer slowQueryHibernatePropertiesCustomizer(final SlowQueryLog slowQueryLog) {
+        final StatisticsFactory statisticsFactory = sessionFactory -> new StatisticsImpl(sessionFactory) {
+            @Override
+            public void slowQuery(final String sql, final long executionTime) {
+                super.slowQuery(sql, executionTime);
+                slowQueryLog.add(sql, executionTime);
+            }
+        };
+        return properties -> properties.put(StatisticsSettings.STATS_BUILDER, statisticsFactory);
+    }
+
+    /**
+     * Bean-Methode für den Actuator-Endpoint "/actuator/jpa-stats".
+     *
+     * @param entityManagerFactory EntityManagerFactory von Hibernate
+     * @param slowQueryLog Ringpuffer für langsame SQL-Anweisungen
+     * @return Actuator-Endpoint
+     */
+    @Bean
+    default JpaStatsEndpoint jpaStatsEndpoint(
+        final EntityManagerFactory entityManagerFactory,
+        final SlowQueryLog slowQueryLog
+    ) {
+        return new JpaStatsEndpoint(entityManagerFactory, slowQueryLog);
+    }
+
+    /**
+     * Bean-Methode für Metriken, die nicht bereits durch "hibernate.*" von Spring Boot abgedeckt sind: Dauer pro Query
+     * ("hibernate.query"), Trefferquote pro Region im 2nd-Level-Cache und Anzahl langsamer SQL-Anweisungen.
+     *
+     * @param entityManagerFactory EntityManagerFactory von Hibernate
+     * @param slowQueryLog Ringpuffer für langsame SQL-Anweisungen
+     * @return MeterBinder für die Metriken
+     */
+    @Bean
+    default MeterBinder jpaStatsMetrics(
+        final EntityManagerFactory entityManagerFactory,
+        final SlowQueryLog slowQueryLog
+    ) {
+        return registry -> {
+            final var sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+            HibernateQueryMetrics.monitor(registry, sessionFactory, "entityManagerFactory");
+            final var statistics = sessionFactory.getStatistics();
+            for (final var region : statistics.getSecondLevelCacheRegionNames()) {
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, stats -> {
+                        final var regionStatistics = stats.getDomainDataRegionStatistics(region);
+                        final var hitCount = regionStatistics.getHitCount();
+                        return JpaStatsEndpoint.hitRatio(hitCount, regionStatistics.getMissCount());
+                    })
+                    .description("Anteil der Treffer im 2nd-Level-Cache")
+                    .tag("region", region)
+                    .register(registry);
+            }
+            FunctionCounter.builder("hibernate.slow.queries", slowQueryLog, SlowQueryLog::getTotal)
+                .description("Anzahl der SQL-Anweisungen ueber LOG_QUERIES_SLOWER_THAN_MS")
+                .register(registry);
+        };
+    }
+}
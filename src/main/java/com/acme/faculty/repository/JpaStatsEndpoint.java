@@ -0,0 +1,144 @@
+package com.acme.faculty.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator-Endpoint "/actuator/jpa-stats" mit der Statistik von Hibernate und den zuletzt protokollierten langsamen
+ * SQL-Anweisungen, z.B. um zu viele Fetches zu erkennen. Der Endpoint kann die Statistik nicht zurücksetzen: die
+ * Zähler werden auch als Metriken für Prometheus exportiert und müssen deshalb monoton steigen. Für einen Lasttest
+ * werden stattdessen die Werte vorher und nachher verglichen.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Endpoint(id = "jpa-stats")
+@RequiredArgsConstructor
+public class JpaStatsEndpoint {
+    private final EntityManagerFactory entityManagerFactory;
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * Die aktuelle Statistik ermitteln.
+     *
+     * @return Statistik seit dem Start
+     */
+    @ReadOperation
+    public JpaStats stats() {
+        final var statistics = getStatistics();
+
+        final var queries = new TreeMap<String, QueryStats>();
+        for (final var query : statistics.getQueries()) {
+            final var queryStatistics = statistics.getQueryStatistics(query);
+            queries.put(query, new QueryStats(
+                queryStatistics.getExecutionCount(),
+                queryStatistics.getExecutionRowCount(),
+                queryStatistics.getExecutionAvgTime(),
+                queryStatistics.getExecutionMaxTime()
+            ));
+        }
+
+        final var cacheRegions = new TreeMap<String, CacheRegionStats>();
+        for (final var region : statistics.getSecondLevelCacheRegionNames()) {
+            final var regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            cacheRegions.put(region, new CacheRegionStats(
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                hitRatio(regionStatistics.getHitCount(), regionStatistics.getMissCount())
+            ));
+        }
+
+        return new JpaStats(
+            statistics.getQueryExecutionCount(),
+            statistics.getQueryExecutionMaxTime(),
+            statistics.getQueryExecutionMaxTimeQueryString(),
+            statistics.getPrepareStatementCount(),
+            statistics.getEntityLoadCount(),
+            statistics.getEntityFetchCount(),
+            statistics.getCollectionLoadCount(),
+            statistics.getCollectionFetchCount(),
+            hitRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()),
+            queries,
+            cacheRegions,
+            slowQueryLog.getTotal(),
+            slowQueryLog.getAll()
+        );
+    }
+
+    private Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    static double hitRatio(final long hitCount, final long missCount) {
+        final var requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Statistik von Hibernate.
+     *
+     * @param queryExecutionCount Anzahl ausgeführter Queries
+     * @param queryExecutionMaxTime Maximale Dauer einer Query in Millisekunden
+     * @param queryExecutionMaxTimeQuery Die Query mit der maximalen Dauer
+     * @param prepareStatementCount Anzahl vorbereiteter SQL-Anweisungen
+     * @param entityLoadCount Anzahl geladener Entities
+     * @param entityFetchCount Anzahl einzeln nachgeladener Entities
+     * @param collectionLoadCount Anzahl geladener Collections
+     * @param collectionFetchCount Anzahl einzeln nachgeladener Collections
+     * @param secondLevelCacheHitRatio Anteil der Treffer im 2nd-Level-Cache
+     * @param queries Statistik pro Query
+     * @param cacheRegions Statistik pro Region im 2nd-Level-Cache
+     * @param slowQueryCount Anzahl aller langsamen SQL-Anweisungen
+     * @param slowQueries Die zuletzt protokollierten langsamen SQL-Anweisungen, die neueste zuerst
+     */
+    public record JpaStats(
+        long queryExecutionCount,
+        long queryExecutionMaxTime,
+        String queryExecutionMaxTimeQuery,
+        long prepareStatementCount,
+        long entityLoadCount,
+        long entityFetchCount,
+        long collectionLoadCount,
+        long collectionFetchCount,
+        double secondLevelCacheHitRatio,
+        Map<String, QueryStats> queries,
+        Map<String, CacheRegionStats> cacheRegions,
+        long slowQueryCount,
+        List<SlowQueryLog.SlowQuery> slowQueries
+    ) {
+    }
+
+    /**
+     * Statistik für eine Query.
+     *
+     * @param executionCount Anzahl der Ausführungen
+     * @param executionRowCount Anzahl der gelesenen Datensätze
+     * @param executionAvgTime Durchschnittliche Dauer in Millisekunden
+     * @param executionMaxTime Maximale Dauer in Millisekunden
+     */
+    public record QueryStats(
+        long executionCount,
+        long executionRowCount,
+        long executionAvgTime,
+        long executionMaxTime
+    ) {
+    }
+
+    /**
+     * Statistik für eine Region im 2nd-Level-Cache.
+     *
+     * @param hitCount Anzahl der Treffer
+     * @param missCount Anzahl der Fehlschläge
+     * @param putCount Anzahl der eingetragenen Einträge
+     * @param hitRatio Anteil der Treffer
+     */
+    public record CacheRegionStats(long hitCount, long missCount, long putCount, double hitRatio) {
+    }
+}
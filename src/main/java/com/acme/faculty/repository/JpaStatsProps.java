@@ -0,0 +1,18 @@
+package com.acme.faculty.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.jpa-stats.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param slowQueryCapacity Anzahl der langsamen SQL-Anweisungen im Ringpuffer. Ab welcher Dauer eine Anweisung
+ *                          langsam ist, legt "hibernate.session.events.log.LOG_QUERIES_SLOWER_THAN_MS" fest.
+ */
+@ConfigurationProperties(prefix = "app.jpa-stats")
+public record JpaStatsProps(
+    @DefaultValue("100")
+    int slowQueryCapacity
+) {
+}
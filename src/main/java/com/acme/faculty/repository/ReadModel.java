@@ -0,0 +1,20 @@
+package com.acme.faculty.repository;
+
+/**
+ * Datenquelle für die seitenweise Suche nach Fakultäten.
+ *
+ * @author Ahmad Hawarnah
+ */
+public enum ReadModel {
+    /**
+     * Die Tabellen {@code faculty}, {@code dean} und {@code course} mit Joins.
+     */
+    TABLES,
+
+    /**
+     * Die denormalisierte Tabelle {@code faculty_view} mit einer Zeile pro Fakultät, d.h. ohne Joins. Suchkriterien,
+     * die darin nicht abgebildet werden können, z.B. "course", werden weiterhin über die Tabellen gesucht.
+     * Nur mit diesem Lesemodell wird die Tabelle bei Änderungen von FacultyViewUpdater aktualisiert.
+     */
+    VIEW
+}
@@ -0,0 +1,119 @@
+package com.acme.faculty.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static jakarta.persistence.CacheStoreMode.BYPASS;
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_CACHE_STORE_MODE;
+
+/**
+ * DataSource, die Read-Only-Transaktionen reihum auf Replikate verteilt und alle übrigen Zugriffe an die primäre DB
+ * weiterleitet. Ein Replikat, das innerhalb von "replicaConnectionTimeout" keine Verbindung liefert, wird für
+ * "ejectDuration" ausgelassen; ist kein Replikat verfügbar, wird von der primären DB gelesen. Weil die Entscheidung
+ * die Eigenschaften der Transaktion benötigt, muss die DataSource in einen LazyConnectionDataSourceProxy eingebettet
+ * werden. Was von einem Replikat gelesen wird, kann veraltet sein und wird deshalb nicht in den gemeinsamen
+ * 2nd-Level-Cache geschrieben.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Slf4j
+public final class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final Duration ejectDuration;
+    private final AtomicInteger next = new AtomicInteger();
+    // Zeitpunkt (System.nanoTime), ab dem ein ausgelassenes Replikat wieder verwendet wird; 0 = verfuegbar
+    private final AtomicLongArray ejectedUntil;
+
+    ReadWriteRoutingDataSource(
+        final DataSource primary,
+        final List<DataSource> replicas,
+        final ReadYourWrites readYourWrites,
+        final RoutingDataSourceProps props
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWrites = readYourWrites;
+        ejectDuration = props.ejectDuration();
+        ejectedUntil = new AtomicLongArray(replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!isReadOnly()) {
+            readYourWrites.registerWrite();
+            return primary.getConnection();
+        }
+        if (readYourWrites.isRecentWriter()) {
+            log.trace("getConnection: primaere DB wegen read-your-writes");
+            return primary.getConnection();
+        }
+
+        final var start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (var i = 0; i < replicas.size(); i++) {
+            final var index = (start + i) % replicas.size();
+            if (isEjected(index)) {
+                continue;
+            }
+            try {
+                final var connection = replicas.get(index).getConnection();
+                bypassCacheStore();
+                return connection;
+            } catch (final SQLException ex) {
+                log.warn("getConnection: Replikat {} fuer {} ausgelassen: {}", index, ejectDuration, ex.getMessage());
+                ejectedUntil.set(index, System.nanoTime() + ejectDuration.toNanos());
+            }
+        }
+        log.debug("getConnection: kein Replikat verfuegbar, primaere DB");
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Nur mit den konfigurierten Benutzerkennungen");
+    }
+
+    /**
+     * Die Connection-Pools der Replikate schließen. Die primäre DB ist eine eigene Bean.
+     *
+     * @throws Exception falls ein Connection-Pool nicht geschlossen werden kann
+     */
+    @Override
+    public void close() throws Exception {
+        for (final var replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static boolean isReadOnly() {
+        return TransactionSynchronizationManager.isActualTransactionActive() &&
+            TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static void bypassCacheStore() {
+        // Der Cache ist READ_WRITE und gilt fuer alle Transaktionen: ein verzoegertes Replikat wuerde sonst einen
+        // alten Stand einer Entitaet bis zum naechsten Update oder Ablauf auch fuer die primaere DB ausliefern
+        TransactionSynchronizationManager.getResourceMap().values().stream()
+            .filter(EntityManagerHolder.class::isInstance)
+            .map(holder -> ((EntityManagerHolder) holder).getEntityManager())
+            .forEach(entityManager -> entityManager.setProperty(HINT_SPEC_CACHE_STORE_MODE, BYPASS));
+    }
+
+    private boolean isEjected(final int index) {
+        final var until = ejectedUntil.get(index);
+        return until != 0 && System.nanoTime() - until < 0;
+    }
+}
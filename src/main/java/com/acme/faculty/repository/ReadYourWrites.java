@@ -0,0 +1,68 @@
+package com.acme.faculty.repository;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Merkt sich pro Benutzer den Zeitpunkt seiner letzten schreibenden Transaktion, damit er innerhalb eines
+ * Zeitfensters von der primären DB liest und nicht von einem Replikat, das seine Änderungen noch nicht hat.
+ * <p>
+ * Die Zeitpunkte liegen nur im Speicher dieser Instanz. Laufen mehrere Instanzen hinter einem Load Balancer, gilt
+ * die Garantie nur, wenn die Requests eines Benutzers bei derselben Instanz ankommen, z.B. mit Sticky Sessions anhand
+ * des Benutzernamens aus dem JWT. Eine andere Instanz liest sonst innerhalb des Zeitfensters von einem Replikat.
+ *
+ * @author Ahmad Hawarnah
+ */
+final class ReadYourWrites {
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final ConcurrentMap<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    ReadYourWrites(final Duration window) {
+        windowNanos = window.toNanos();
+    }
+
+    /**
+     * Für die laufende schreibende Transaktion nach dem Commit den Zeitpunkt beim aktuellen Benutzer vermerken.
+     */
+    void registerWrite() {
+        final var username = currentUsername();
+        if (username == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (lastWrites.size() > CLEANUP_THRESHOLD) {
+                    final var now = System.nanoTime();
+                    lastWrites.values().removeIf(written -> now - written > windowNanos);
+                }
+                lastWrites.put(username, System.nanoTime());
+            }
+        });
+    }
+
+    /**
+     * Prüfen, ob der aktuelle Benutzer innerhalb des Zeitfensters geschrieben hat.
+     *
+     * @return true, falls von der primären DB gelesen werden muss
+     */
+    boolean isRecentWriter() {
+        final var username = currentUsername();
+        if (username == null) {
+            return false;
+        }
+        final var written = lastWrites.get(username);
+        return written != null && System.nanoTime() - written <= windowNanos;
+    }
+
+    private static String currentUsername() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,110 @@
+package com.acme.faculty.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
+/**
+ * Interceptor für die Methoden von FacultyRepository: misst die Dauer jeder Query und die Anzahl der gelesenen
+ * Datensätze, jeweils mit den Tags "query" für den Methodennamen und "criteria" für die Suchkriterien. Bei einem
+ * Stream wird nur das Öffnen des Cursors gemessen.
+ *
+ * @author Ahmad Hawarnah
+ */
+@RequiredArgsConstructor
+final class RepositoryMetrics implements MethodInterceptor {
+    /**
+     * Name des Timers für die Dauer einer Query.
+     */
+    static final String TIMER_NAME = "faculty.repository.query";
+
+    /**
+     * Name der Verteilung für die Anzahl der gelesenen Datensätze.
+     */
+    static final String ROWS_NAME = "faculty.repository.rows";
+
+    private static final String NO_CRITERIA = "none";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final ObjectProvider<RepositoryMetricsProps> propsProvider;
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var method = invocation.getMethod();
+        final var registry = registryProvider.getIfAvailable();
+        if (registry == null || method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        final var tags = Tags.of("query", method.getName(), "criteria", criteria(method, invocation.getArguments()));
+        final var props = propsProvider.getObject();
+        final var sample = Timer.start(registry);
+        var outcome = "SUCCESS";
+        try {
+            final var result = invocation.proceed();
+            rows(result).ifPresent(rows -> DistributionSummary.builder(ROWS_NAME)
+                .description("Anzahl der gelesenen Datensaetze pro Query")
+                .tags(tags)
+                .publishPercentileHistogram(props.percentilesHistogram())
+                .serviceLevelObjectives(props.rowsSlo().stream().mapToDouble(Double::doubleValue).toArray())
+                .register(registry)
+                .record(rows));
+            return result;
+        } catch (final Throwable ex) {
+            outcome = "ERROR";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER_NAME)
+                .description("Dauer einer Query von FacultyRepository")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram(props.percentilesHistogram())
+                .serviceLevelObjectives(props.slo().toArray(Duration[]::new))
+                .register(registry));
+        }
+    }
+
+    private static String criteria(final Method method, final Object[] args) {
+        // dynamische Query: Suchkriterien von SpecificationBuilder
+        final var specification = Arrays.stream(args)
+            .filter(CriteriaSpecification.class::isInstance)
+            .map(CriteriaSpecification.class::cast)
+            .findFirst();
+        if (specification.isPresent()) {
+            return specification.get().criteria();
+        }
+
+        // statische Query: Namen der Parameter fuer Teilstrings, z.B. "name" bei findByName(CharSequence name)
+        final var criteria = Arrays.stream(method.getParameters())
+            .filter(parameter -> CharSequence.class.isAssignableFrom(parameter.getType()))
+            .map(Parameter::getName)
+            .sorted()
+            .collect(Collectors.joining(","));
+        return criteria.isEmpty() ? NO_CRITERIA : criteria;
+    }
+
+    private static OptionalInt rows(final Object result) {
+        return switch (result) {
+            case Collection<?> collection -> OptionalInt.of(collection.size());
+            case Slice<?> slice -> OptionalInt.of(slice.getNumberOfElements());
+            case Window<?> window -> OptionalInt.of(window.size());
+            case Optional<?> optional -> OptionalInt.of(optional.isPresent() ? 1 : 0);
+            case null, default -> OptionalInt.empty();
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.acme.faculty.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Konfiguration für die Metriken "faculty.repository.query" und "faculty.repository.rows" der Repository-Methoden.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface RepositoryMetricsConfig {
+    /**
+     * Bean-Methode, um RepositoryMetrics als Interceptor bei jedem Repository-Proxy zu registrieren. MeterRegistry und
+     * Properties werden erst beim ersten Aufruf ermittelt, weil ein BeanPostProcessor sehr früh erzeugt wird.
+     *
+     * @param registryProvider Provider für die MeterRegistry
+     * @param propsProvider Provider für die Spring-Properties
+     * @return BeanPostProcessor für die Factory-Beans der Repositories
+     */
+    @Bean
+    default BeanPostProcessor repositoryMetricsPostProcessor(
+        final ObjectProvider<MeterRegistry> registryProvider,
+        final ObjectProvider<RepositoryMetricsProps> propsProvider
+    ) {
+        final var interceptor = new RepositoryMetrics(registryProvider, propsProvider);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, _) -> proxyFactory.addAdvice(interceptor)
+                    ));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.acme.faculty.repository;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.metrics.repository.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param percentilesHistogram true, falls für Prometheus ein Histogramm für Perzentile veröffentlicht werden soll
+ * @param slo Obergrenzen der SLO-Buckets für die Dauer einer Query
+ * @param rowsSlo Obergrenzen der SLO-Buckets für die Anzahl der gelesenen Datensätze
+ */
+@ConfigurationProperties(prefix = "app.metrics.repository")
+public record RepositoryMetricsProps(
+    @DefaultValue("true")
+    boolean percentilesHistogram,
+
+    @DefaultValue({"5ms", "10ms", "25ms", "50ms", "100ms", "250ms", "500ms", "1s"})
+    List<Duration> slo,
+
+    @DefaultValue({"1", "10", "50", "100", "500", "1000", "5000"})
+    List<Double> rowsSlo
+) {
+}
@@ -0,0 +1,43 @@
+package com.acme.faculty.repository;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.datasource.*". Ohne Replikate bleibt es bei der DataSource aus
+ * "spring.datasource".
+ *
+ * @author Ahmad Hawarnah
+ * @param replicas Replikate für Read-Only-Transaktionen
+ * @param ejectDuration Dauer, für die ein Replikat nach einem Verbindungsfehler nicht verwendet wird
+ * @param readYourWrites Zeitfenster nach einer schreibenden Transaktion, in dem derselbe Benutzer von der primären DB
+ *                       liest, damit er seine eigenen Änderungen sieht; nur innerhalb derselben Instanz
+ * @param replicaConnectionTimeout Maximale Wartezeit auf eine Verbindung zu einem Replikat, bevor es ausgelassen und
+ *                                 die nächste DB verwendet wird
+ */
+@ConfigurationProperties(prefix = "app.datasource")
+public record RoutingDataSourceProps(
+    @DefaultValue
+    List<Replica> replicas,
+
+    @DefaultValue("30s")
+    Duration ejectDuration,
+
+    @DefaultValue("5s")
+    Duration readYourWrites,
+
+    @DefaultValue("1s")
+    Duration replicaConnectionTimeout
+) {
+    /**
+     * Verbindungsdaten für ein Replikat.
+     *
+     * @param url JDBC-URL
+     * @param username Benutzername
+     * @param password Passwort
+     */
+    public record Replica(String url, String username, String password) {
+    }
+}
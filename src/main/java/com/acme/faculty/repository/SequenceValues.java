@@ -0,0 +1,84 @@
+package com.acme.faculty.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mehrere Werte einer DB-Sequenz mit einer einzigen Query reservieren, z.B. für Werte, die vor dem INSERT bzw. UPDATE
+ * feststehen müssen, damit Hibernate die Statements als JDBC-Batch sendet. Unterstützt werden PostgreSQL und H2.
+ * <p>
+ * Die Query ist nur mit der Sequenz synchronisiert. Hibernate schreibt deshalb vorher keine anstehenden Änderungen an
+ * Tabellen in die DB, wie es bei einer nativen Query ohne Query Space der Fall wäre.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@Slf4j
+public class SequenceValues {
+    private static final String SEQUENCE_LOCK = "sequence_lock";
+
+    private final EntityManager entityManager;
+    private final boolean postgres;
+
+    SequenceValues(final EntityManager entityManager, final EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        final var dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+        postgres = dialect instanceof PostgreSQLDialect;
+        log.debug("SequenceValues: dialect={}", dialect.getClass().getSimpleName());
+    }
+
+    /**
+     * Die nächsten Werte einer Sequenz reservieren.
+     *
+     * @param sequence Name der Sequenz als Konstante, d.h. nicht aus einer Benutzereingabe
+     * @param count Anzahl der Werte
+     * @return Die Werte in aufsteigender Reihenfolge
+     */
+    public List<Long> next(final String sequence, final int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        final var sql = postgres
+            ? "SELECT nextval('" + sequence + "') FROM generate_series(1, :count)"
+            : "SELECT NEXT VALUE FOR " + sequence + " FROM system_range(1, :count)";
+        final List<?> values = entityManager.createNativeQuery(sql)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(sequence)
+            .setParameter("count", count)
+            .getResultList();
+        return values.stream()
+            .map(value -> ((Number) value).longValue())
+            .sorted()
+            .toList();
+    }
+
+    /**
+     * Die nächsten Werte einer Sequenz in der Reihenfolge der Commits reservieren. Dazu wird die Zeile der Sequenz in
+     * {@code sequence_lock} bis zum Ende der Transaktion gesperrt: eine andere Transaktion erhält erst nach dem Commit
+     * bzw. Rollback größere Werte. Der Aufruf gehört deshalb unmittelbar vor den Commit, und die Sequenz darf keine
+     * Werte pro Session vorab reservieren, d.h. CACHE 1 wie beim Default von PostgreSQL.
+     *
+     * @param sequence Name der Sequenz als Konstante mit einer Zeile in {@code sequence_lock}
+     * @param count Anzahl der Werte
+     * @return Die Werte in aufsteigender Reihenfolge
+     */
+    public List<Long> nextInCommitOrder(final String sequence, final int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        entityManager.createNativeQuery("SELECT name FROM " + SEQUENCE_LOCK + " WHERE name = :name FOR UPDATE")
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace(SEQUENCE_LOCK)
+            .setParameter("name", sequence)
+            .getSingleResult();
+        return next(sequence, count);
+    }
+}
@@ -0,0 +1,74 @@
+package com.acme.faculty.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ringpuffer mit den zuletzt protokollierten langsamen SQL-Anweisungen. Ist der Puffer voll, wird die älteste
+ * Anweisung überschrieben.
+ *
+ * @author Ahmad Hawarnah
+ */
+public final class SlowQueryLog {
+    private final SlowQuery[] buffer;
+    private int next;
+    private long total;
+
+    SlowQueryLog(final int capacity) {
+        buffer = new SlowQuery[capacity];
+    }
+
+    /**
+     * Eine langsame SQL-Anweisung eintragen.
+     *
+     * @param sql Die SQL-Anweisung mit "?" als Platzhalter für die Bind-Parameter
+     * @param executionTime Dauer in Millisekunden
+     */
+    synchronized void add(final String sql, final long executionTime) {
+        buffer[next] = new SlowQuery(Instant.now(), executionTime, parameterCount(sql), sql);
+        next = (next + 1) % buffer.length;
+        total++;
+    }
+
+    /**
+     * Die eingetragenen SQL-Anweisungen ermitteln.
+     *
+     * @return Die SQL-Anweisungen, die neueste zuerst
+     */
+    public synchronized List<SlowQuery> getAll() {
+        final var result = new ArrayList<SlowQuery>(buffer.length);
+        for (var i = 1; i <= buffer.length; i++) {
+            final var slowQuery = buffer[Math.floorMod(next - i, buffer.length)];
+            if (slowQuery == null) {
+                break;
+            }
+            result.add(slowQuery);
+        }
+        return result;
+    }
+
+    /**
+     * Anzahl aller langsamen SQL-Anweisungen seit dem Start.
+     *
+     * @return Die Anzahl
+     */
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    private static int parameterCount(final String sql) {
+        return (int) sql.chars().filter(ch -> ch == '?').count();
+    }
+
+    /**
+     * Eine langsame SQL-Anweisung.
+     *
+     * @param timestamp Zeitpunkt der Protokollierung
+     * @param executionTime Dauer in Millisekunden
+     * @param parameterCount Anzahl der Bind-Parameter
+     * @param sql Die SQL-Anweisung mit "?" als Platzhalter für die Bind-Parameter
+     */
+    public record SlowQuery(Instant timestamp, long executionTime, int parameterCount, String sql) {
+    }
+}
@@ -1,11 +1,13 @@
 package com.acme.faculty.repository;
 
 import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyView;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import java.util.Collection;
 import java.util.ArrayList;
@@ -35,9 +37,45 @@ public class SpecificationBuilder {
         if (specs.isEmpty() || specs.contains(null)) {
             return Optional.empty();
         }
+        final var criteria = queryParams.keySet().stream().sorted().collect(Collectors.joining(","));
+        return Optional.of(new CriteriaSpecification(criteria, Specification.allOf(specs)));
+    }
+
+    /**
+     * Specification für eine Query über die denormalisierte Tabelle {@code faculty_view} bauen. Unterstützt werden
+     * nur Suchkriterien, die ohne Join auskommen, d.h. "name" und "dean".
+     *
+     * @param queryParams als Map.
+     * @return Specification oder ein leeres Optional, falls ein Suchkriterium nicht unterstützt wird
+     */
+    public Optional<Specification<FacultyView>> buildView(final Map<String, ? extends List<String>> queryParams) {
+        log.debug("buildView: queryParams={}", queryParams);
+        final var specs = new ArrayList<Specification<FacultyView>>(queryParams.size());
+        for (final var entry : queryParams.entrySet()) {
+            final var values = entry.getValue();
+            if (values == null || values.size() != 1) {
+                return Optional.empty();
+            }
+            final var attribute = switch (entry.getKey()) {
+                case "name" -> "name";
+                case "dean" -> "deanName";
+                default -> null;
+            };
+            if (attribute == null) {
+                return Optional.empty();
+            }
+            specs.add(like(attribute, values.get(0)));
+        }
         return Optional.of(Specification.allOf(specs));
     }
 
+    private static <T> Specification<T> like(final String attribute, final String teil) {
+        return (root, _, builder) -> builder.like(
+            builder.lower(root.get(attribute)),
+            builder.lower(builder.literal("%" + teil + '%'))
+        );
+    }
+
     @SuppressWarnings("CyclomaticComplexity")
     private Specification<Faculty> toSpecification(final Map.Entry<String, ? extends List<String>> entry) {
         log.trace("toSpecification: entry={}", entry);
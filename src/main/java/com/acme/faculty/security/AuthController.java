@@ -19,9 +19,6 @@ package com.acme.faculty.security;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.annotation.PostConstruct;
-import java.nio.charset.Charset;
-import java.util.Base64;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +35,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.client.HttpClientErrorException;
 import static com.acme.faculty.security.AuthController.AUTH_PATH;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
-import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 /**
@@ -58,22 +54,9 @@ public class AuthController {
      */
     public static final String AUTH_PATH = "/auth";
 
-    private final com.acme.faculty.security.KeycloakRepository keycloakRepository;
+    private final KeycloakTokenService tokenService;
     private final CompromisedPasswordChecker passwordChecker;
 
-    private final com.acme.faculty.security.KeycloakProps keycloakProps;
-
-    private String clientAndSecretEncoded;
-
-    @PostConstruct
-    private void encodeClientAndSecret() {
-        final var clientAndSecret = keycloakProps.clientId() + ':' + keycloakProps.clientSecret();
-        clientAndSecretEncoded = Base64
-            .getEncoder()
-            .encodeToString(clientAndSecret.getBytes(Charset.defaultCharset()));
-        log.debug("clientAndSecretEncoded={}", clientAndSecretEncoded);
-    }
-
     @GetMapping("/me")
     @Operation(summary = "JWT bei OAuth 2.0 abfragen", tags = "Auth")
     @ApiResponse(responseCode = "200", description = "Eingeloggt")
@@ -92,17 +75,23 @@ public class AuthController {
     @Operation(summary = "Login mit Benutzername und Passwort", tags = "Auth")
     @ApiResponse(responseCode = "200", description = "Eingeloggt")
     @ApiResponse(responseCode = "401", description = "Fehler bei Username oder Passwort")
-    com.acme.faculty.security.TokenDTO login(@RequestBody final com.acme.faculty.security.LoginDTO loginDto) {
-        log.debug("login: loginDto={}", loginDto);
-        final var tokenDTO = keycloakRepository.login(
-            "grant_type=password&username=" + loginDto.username() + "&password=" + loginDto.password(),
-            "Basic " + clientAndSecretEncoded,
-            APPLICATION_FORM_URLENCODED_VALUE
-        );
+    TokenDTO login(@RequestBody final LoginDTO loginDto) {
+        log.debug("login: username={}", loginDto.username());
+        final var tokenDTO = tokenService.login(loginDto);
         log.debug("login: tokenDTO={}", tokenDTO);
         return tokenDTO;
     }
 
+    @PostMapping(path = "/refresh", consumes = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Neuer Access-Token mit einem Refresh-Token", tags = "Auth")
+    @ApiResponse(responseCode = "200", description = "Neuer Access-Token")
+    @ApiResponse(responseCode = "401", description = "Refresh-Token ungueltig oder abgelaufen")
+    TokenDTO refresh(@RequestBody final RefreshDTO refreshDto) {
+        final var tokenDTO = tokenService.refresh(refreshDto.refreshToken());
+        log.debug("refresh: tokenDTO={}", tokenDTO);
+        return tokenDTO;
+    }
+
     @ExceptionHandler
     @ResponseStatus(UNAUTHORIZED)
     void onUnauthorized(@SuppressWarnings("unused") final HttpClientErrorException.Unauthorized ex) {
@@ -0,0 +1,37 @@
+package com.acme.faculty.security;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Unveränderliche Benutzerkennung mit den Rollen aus einem validierten JWT.
+ *
+ * @author Ahmad Hawarnah
+ * @param username Der Benutzername aus "preferred_username"
+ * @param rollen Die Rollen aus "realm_access"
+ * @param expiresAt Ablaufzeitpunkt des JWT
+ */
+public record FacultyPrincipal(String username, Set<Rolle> rollen, Instant expiresAt) {
+    /**
+     * Konstruktor mit einer unveränderlichen Kopie der Rollen als EnumSet.
+     *
+     * @param username Der Benutzername aus "preferred_username"
+     * @param rollen Die Rollen aus "realm_access"
+     * @param expiresAt Ablaufzeitpunkt des JWT
+     */
+    public FacultyPrincipal {
+        rollen = Collections.unmodifiableSet(rollen.isEmpty() ? EnumSet.noneOf(Rolle.class) : EnumSet.copyOf(rollen));
+    }
+
+    /**
+     * Abfrage, ob der Benutzer eine Rolle hat.
+     *
+     * @param rolle Die Rolle
+     * @return true, falls der Benutzer die Rolle hat
+     */
+    public boolean hasRolle(final Rolle rolle) {
+        return rollen.contains(rolle);
+    }
+}
@@ -0,0 +1,111 @@
+package com.acme.faculty.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+/**
+ * Lokaler Cache für die Schlüssel (JWKS) zur Verifikation der JWTs. Die Schlüssel werden im Hintergrund periodisch neu
+ * gelesen; ist Keycloak nicht erreichbar, werden die zuletzt gelesenen Schlüssel weiter verwendet. Die Verifikation
+ * eines JWT wartet deshalb nicht auf Keycloak, außer bei einer unbekannten Key-ID nach einem Schlüsselwechsel.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Slf4j
+public final class JwksCache implements JWKSource<SecurityContext> {
+    private final RestClient restClient;
+    private final URI jwkSetUri;
+    private final JwksProps props;
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("jwks-refresh").factory());
+
+    private volatile Keys keys = new Keys(new JWKSet(), Map.of());
+    // System.nanoTime() kann negativ sein, deshalb "noch nie gelesen" nicht ueber den Wert 0 erkennen
+    private volatile boolean refreshed;
+    private volatile long lastRefreshNanos;
+
+    JwksCache(final RestClient restClient, final URI jwkSetUri, final JwksProps props) {
+        this.restClient = restClient;
+        this.jwkSetUri = jwkSetUri;
+        this.props = props;
+    }
+
+    @PostConstruct
+    void start() {
+        final var interval = props.refreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public List<JWK> get(final JWKSelector selector, final SecurityContext context) {
+        final var kids = selector.getMatcher().getKeyIDs();
+        if (kids == null || kids.size() != 1) {
+            return selector.select(keys.jwkSet());
+        }
+
+        final var kid = kids.iterator().next();
+        var jwk = keys.byKid().get(kid);
+        if (jwk == null && refreshAllowed()) {
+            jwk = refreshFor(kid);
+        }
+        return jwk == null ? List.of() : selector.select(new JWKSet(jwk));
+    }
+
+    private boolean refreshAllowed() {
+        return !refreshed || System.nanoTime() - lastRefreshNanos > props.minRefreshInterval().toNanos();
+    }
+
+    private synchronized JWK refreshFor(final String kid) {
+        // erneut pruefen: ein anderer Thread mit derselben Key-ID hat evtl. gerade neu gelesen
+        final var jwk = keys.byKid().get(kid);
+        if (jwk != null || !refreshAllowed()) {
+            return jwk;
+        }
+        // unbekannte Key-ID: evtl. hat Keycloak einen neuen Schluessel
+        log.debug("refreshFor: unbekannte Key-ID {}", kid);
+        refresh();
+        return keys.byKid().get(kid);
+    }
+
+    private synchronized void refresh() {
+        lastRefreshNanos = System.nanoTime();
+        refreshed = true;
+        try {
+            final var json = restClient.get().uri(jwkSetUri).retrieve().body(String.class);
+            final var jwkSet = JWKSet.parse(json);
+            final var byKid = jwkSet.getKeys()
+                .stream()
+                .filter(jwk -> jwk.getKeyID() != null)
+                .collect(Collectors.toUnmodifiableMap(JWK::getKeyID, Function.identity(), (first, _) -> first));
+            keys = new Keys(jwkSet, byKid);
+            log.debug("refresh: kids={}", byKid.keySet());
+        } catch (final RestClientException | ParseException | IllegalArgumentException ex) {
+            // die bisherigen Schluessel weiter verwenden
+            log.warn("refresh: Schluessel von {} nicht lesbar: {}", jwkSetUri, ex.getMessage());
+        }
+    }
+
+    private record Keys(JWKSet jwkSet, Map<String, JWK> byKid) {
+    }
+}
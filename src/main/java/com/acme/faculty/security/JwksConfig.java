@@ -0,0 +1,88 @@
+package com.acme.faculty.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.net.URI;
+import java.net.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Konfiguration für die Verifikation der JWTs mit lokal gepufferten Schlüsseln.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface JwksConfig {
+    /**
+     * Logger-Objekt.
+     */
+    Logger LOGGER = LoggerFactory.getLogger(JwksConfig.class);
+
+    /**
+     * Bean-Methode für den Cache mit den Schlüsseln von Keycloak.
+     *
+     * @param props Spring-Properties für JWKS
+     * @param keycloak Spring-Properties für Keycloak
+     * @return Cache mit den Schlüsseln
+     */
+    @Bean
+    default JwksCache jwksCache(final JwksProps props, final KeycloakProps keycloak) {
+        final var jwkSetUri = props.jwkSetUri() == null
+            ? UriComponentsBuilder.fromUri(issuerUri(props, keycloak))
+                .path("/protocol/openid-connect/certs")
+                .build()
+                .toUri()
+            : props.jwkSetUri();
+        LOGGER.debug("jwksCache: jwkSetUri={}", jwkSetUri);
+
+        final var httpClient = HttpClient.newBuilder().connectTimeout(props.timeout()).build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(props.timeout());
+        final var restClient = RestClient.builder().requestFactory(requestFactory).build();
+        return new JwksCache(restClient, jwkSetUri, props);
+    }
+
+    /**
+     * Bean-Methode für den JwtDecoder von Spring Security, der die Schlüssel aus dem Cache verwendet.
+     *
+     * @param jwksCache Cache mit den Schlüsseln
+     * @param props Spring-Properties für JWKS
+     * @param keycloak Spring-Properties für Keycloak
+     * @return JwtDecoder für den Resource Server
+     */
+    @Bean
+    default JwtDecoder jwtDecoder(final JwksCache jwksCache, final JwksProps props, final KeycloakProps keycloak) {
+        final var jwtProcessor = new DefaultJWTProcessor<SecurityContext>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwksCache));
+        // Claims werden durch die Validatoren von Spring Security geprueft
+        jwtProcessor.setJWTClaimsSetVerifier((_, _) -> { });
+
+        final var decoder = new NimbusJwtDecoder(jwtProcessor);
+        final var issuer = issuerUri(props, keycloak).toString();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        LOGGER.debug("jwtDecoder: issuer={}", issuer);
+        return decoder;
+    }
+
+    private static URI issuerUri(final JwksProps props, final KeycloakProps keycloak) {
+        if (props.issuerUri() != null) {
+            return props.issuerUri();
+        }
+        return UriComponentsBuilder.newInstance()
+            .scheme(keycloak.schema())
+            .host(keycloak.host())
+            .port(keycloak.port())
+            .path("/realms/spring")
+            .build()
+            .toUri();
+    }
+}
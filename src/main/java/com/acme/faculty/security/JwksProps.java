@@ -0,0 +1,34 @@
+package com.acme.faculty.security;
+
+import java.net.URI;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.jwks.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param issuerUri Issuer der JWTs. Ohne Angabe wird der Realm "spring" beim Keycloak aus "app.keycloak.*" verwendet.
+ * @param jwkSetUri URI der Schlüssel, z.B. für einen lokalen Stub. Ohne Angabe "/protocol/openid-connect/certs"
+ *                  relativ zum Issuer.
+ * @param refreshInterval Abstand, in dem die Schlüssel im Hintergrund neu gelesen werden
+ * @param minRefreshInterval Mindestabstand für ein sofortiges Neulesen bei einer unbekannten Key-ID
+ * @param timeout Timeout für Verbindungsaufbau und Antwort beim Lesen der Schlüssel
+ */
+@ConfigurationProperties(prefix = "app.jwks")
+public record JwksProps(
+    URI issuerUri,
+
+    URI jwkSetUri,
+
+    @DefaultValue("5m")
+    Duration refreshInterval,
+
+    @DefaultValue("30s")
+    Duration minRefreshInterval,
+
+    @DefaultValue("2s")
+    Duration timeout
+) {
+}
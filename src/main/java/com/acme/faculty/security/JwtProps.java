@@ -0,0 +1,17 @@
+package com.acme.faculty.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.jwt.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param principalCacheSize Maximale Anzahl an JWTs, deren Benutzerkennung und Rollen gepuffert werden
+ */
+@ConfigurationProperties(prefix = "app.jwt")
+public record JwtProps(
+    @DefaultValue("10000")
+    int principalCacheSize
+) {
+}
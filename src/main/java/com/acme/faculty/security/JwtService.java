@@ -15,16 +15,30 @@
  * along with this program.  If not, see <https://www.gnu.org/licenses/>.
  */
 package com.acme.faculty.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 /**
- * Service-Klasse, um Benutzernamen und Rollen aus einem JWT von Keycloak zu extrahieren.
+ * Service-Klasse, um Benutzernamen und Rollen aus einem JWT von Keycloak zu extrahieren. Benutzername und Rollen
+ * werden pro JWT bis zu dessen Ablauf gepuffert, damit die Claims nicht bei jedem Request erneut ausgewertet werden.
+ * Ist der Puffer voll, verdrängt ein neues JWT ein selten verwendetes.
  *
  * @author <a href="mailto:Juergen.Zimmermann@h-ka.de">Jürgen Zimmermann</a>
  */
@@ -32,6 +46,40 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @SuppressWarnings("java:S5852")
 public class JwtService {
+    private final Cache<String, FacultyPrincipal> principals;
+
+    JwtService(final JwtProps props) {
+        principals = Caffeine.newBuilder()
+            .maximumSize(props.principalCacheSize())
+            // jeder Eintrag läuft mit seinem JWT ab
+            .expireAfter(Expiry.creating((String _, FacultyPrincipal principal) ->
+                Duration.between(Instant.now(), principal.expiresAt())))
+            .build();
+    }
+
+    /**
+     * Zu einem validierten JWT die Benutzerkennung mit den Rollen ermitteln, möglichst aus dem Puffer.
+     *
+     * @param jwt JWT für Security
+     * @return Benutzerkennung mit Rollen
+     */
+    public FacultyPrincipal getPrincipal(final Jwt jwt) {
+        if (jwt == null) {
+            throw new UsernameNotFoundException("JWT == null");
+        }
+        final var key = hash(jwt.getTokenValue());
+        final var cached = principals.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var principal = new FacultyPrincipal(getUsername(jwt), getRollen(jwt), jwt.getExpiresAt());
+        if (principal.expiresAt() != null && principal.expiresAt().isAfter(Instant.now())) {
+            principals.put(key, principal);
+        }
+        return principal;
+    }
+
     /**
      * Zu einem gegebenen JWT wird der zugehörige Username gesucht.
      *
@@ -52,17 +100,31 @@ public class JwtService {
      * Zu einem gegebenen JWT werden die zugehörigen Rollen gesucht.
      *
      * @param jwt JWT für Security
-     * @return Die gesuchten Rollen oder die leere Liste
+     * @return Die gesuchten Rollen oder die leere Menge
      */
-    public List<com.acme.faculty.security.Rolle> getRollen(final Jwt jwt) {
+    public Set<Rolle> getRollen(final Jwt jwt) {
         @SuppressWarnings("unchecked")
         final var realmAccess = (Map<String, List<String>>) jwt.getClaims().get("realm_access");
+        final var rollen = EnumSet.noneOf(Rolle.class);
+        if (realmAccess == null || realmAccess.get("roles") == null) {
+            return rollen;
+        }
         final var rollenStr = realmAccess.get("roles");
         log.trace("getRollen: rollenStr={}", rollenStr);
-        return rollenStr
+        rollenStr
             .stream()
-            .map(com.acme.faculty.security.Rolle::of)
+            .map(Rolle::of)
             .filter(Objects::nonNull)
-            .toList();
+            .forEach(rollen::add);
+        return rollen;
+    }
+
+    private static String hash(final String token) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
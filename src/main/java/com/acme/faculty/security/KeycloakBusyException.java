@@ -0,0 +1,21 @@
+package com.acme.faculty.security;
+
+import lombok.Getter;
+
+/**
+ * Exception, falls bereits die maximale Anzahl an Requests an den Keycloak-Server unterwegs ist.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Getter
+public class KeycloakBusyException extends RuntimeException {
+    /**
+     * Maximale Anzahl gleichzeitiger Requests an den Keycloak-Server.
+     */
+    private final int maxConcurrentRequests;
+
+    KeycloakBusyException(final int maxConcurrentRequests) {
+        super("Zu viele gleichzeitige Requests an Keycloak: " + maxConcurrentRequests);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+}
@@ -16,16 +16,20 @@
  */
 package com.acme.faculty.security;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
- * Konfiguration für einen Spring-HTTP-Client für Keycloak.
+ * Konfiguration für einen Spring-HTTP-Client für Keycloak. Der JDK-HttpClient hält die Verbindungen zum Keycloak-Server
+ * in seinem Pool offen (Keep-Alive) und verwendet HTTP/2, falls der Server es unterstützt.
  */
 public interface KeycloakClientConfig {
     /**
@@ -41,7 +45,10 @@ public interface KeycloakClientConfig {
      * @return Objekt zum Interface KeycloakRepository
      */
     @Bean
-    default com.acme.faculty.security.KeycloakRepository keycloakRepository(final RestClient.Builder clientBuilder, com.acme.faculty.security.KeycloakProps keycloak) {
+    default KeycloakRepository keycloakRepository(
+        final RestClient.Builder clientBuilder,
+        final KeycloakProps keycloak
+    ) {
         final var baseUri = UriComponentsBuilder.newInstance()
             .scheme(keycloak.schema())
             .host(keycloak.host())
@@ -49,9 +56,21 @@ public interface KeycloakClientConfig {
             .build();
         LOGGER.debug("keycloakRepository: baseUri={}", baseUri);
 
-        final var restClient = clientBuilder.baseUrl(baseUri.toUriString()).build();
+        final var httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(keycloak.connectTimeout())
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        final var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(keycloak.readTimeout());
+
+        final var restClient = clientBuilder
+            .baseUrl(baseUri.toUriString())
+            .requestFactory(requestFactory)
+            .requestInterceptor(new KeycloakConcurrencyLimiter(keycloak))
+            .build();
         final var clientAdapter = RestClientAdapter.create(restClient);
         final var proxyFactory = HttpServiceProxyFactory.builderFor(clientAdapter).build();
-        return proxyFactory.createClient(com.acme.faculty.security.KeycloakRepository.class);
+        return proxyFactory.createClient(KeycloakRepository.class);
     }
 }
@@ -0,0 +1,48 @@
+package com.acme.faculty.security;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Interceptor, der die Anzahl gleichzeitiger Requests an den Keycloak-Server begrenzt. Ist kein Platz frei, wird
+ * höchstens "acquireTimeout" gewartet und dann mit {@linkplain KeycloakBusyException} abgebrochen, statt Keycloak
+ * bei einem Ansturm von Logins weiter zu belasten.
+ *
+ * @author Ahmad Hawarnah
+ */
+final class KeycloakConcurrencyLimiter implements ClientHttpRequestInterceptor {
+    private final Semaphore permits;
+    private final KeycloakProps props;
+
+    KeycloakConcurrencyLimiter(final KeycloakProps props) {
+        permits = new Semaphore(props.maxConcurrentRequests(), true);
+        this.props = props;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+        final HttpRequest request,
+        final byte[] body,
+        final ClientHttpRequestExecution execution
+    ) throws IOException {
+        try {
+            if (!permits.tryAcquire(props.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new KeycloakBusyException(props.maxConcurrentRequests());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new KeycloakBusyException(props.maxConcurrentRequests());
+        }
+        try {
+            // der Platz wird freigegeben, sobald die Header da sind: die Token-Response von Keycloak ist klein
+            return execution.execute(request, body);
+        } finally {
+            permits.release();
+        }
+    }
+}
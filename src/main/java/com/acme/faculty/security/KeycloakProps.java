@@ -16,6 +16,7 @@
  */
 package com.acme.faculty.security;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
@@ -28,6 +29,10 @@ import org.springframework.boot.context.properties.bind.DefaultValue;
  * @param port Port des Keycloak-Servers
  * @param clientId Client-ID im Keycloak-Server
  * @param clientSecret Client-Secret gemäß der Client-Konfiguration in Keycloak
+ * @param connectTimeout Timeout für den Verbindungsaufbau zum Keycloak-Server
+ * @param readTimeout Timeout für die Antwort des Keycloak-Servers
+ * @param maxConcurrentRequests Maximale Anzahl gleichzeitiger Requests an den Keycloak-Server
+ * @param acquireTimeout Maximale Wartezeit auf einen freien Platz, bevor ein Request abgewiesen wird
  */
 @ConfigurationProperties(prefix = "app.keycloak")
 public record KeycloakProps(
@@ -43,6 +48,18 @@ public record KeycloakProps(
     @DefaultValue("spring-client")
     String clientId,
 
-    String clientSecret
+    String clientSecret,
+
+    @DefaultValue("2s")
+    Duration connectTimeout,
+
+    @DefaultValue("5s")
+    Duration readTimeout,
+
+    @DefaultValue("20")
+    int maxConcurrentRequests,
+
+    @DefaultValue("500ms")
+    Duration acquireTimeout
 ) {
 }
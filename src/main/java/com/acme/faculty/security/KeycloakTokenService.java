@@ -0,0 +1,118 @@
+package com.acme.faculty.security;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import static java.net.URLEncoder.encode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED_VALUE;
+
+/**
+ * Service, um bei Keycloak Tokens anzufordern. Gleichzeitige Anfragen mit denselben Credentials, z.B. mehrere Logins
+ * desselben Benutzers, teilen sich einen einzigen Request an Keycloak.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeycloakTokenService {
+    private final KeycloakRepository keycloakRepository;
+    private final KeycloakProps keycloakProps;
+    private final Map<String, CompletableFuture<TokenDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private String authorization;
+
+    @PostConstruct
+    private void encodeClientAndSecret() {
+        final var clientAndSecret = keycloakProps.clientId() + ':' + keycloakProps.clientSecret();
+        authorization = "Basic " + Base64
+            .getEncoder()
+            .encodeToString(clientAndSecret.getBytes(Charset.defaultCharset()));
+    }
+
+    /**
+     * Einloggen mit Benutzername und Passwort.
+     *
+     * @param loginDto Benutzername und Passwort
+     * @return Access-Token und Refresh-Token von Keycloak
+     */
+    public TokenDTO login(final LoginDTO loginDto) {
+        final var key = "password:" + loginDto.username() + ':' + hash(loginDto.password());
+        final var loginData = "grant_type=password&username=" + encode(loginDto.username(), UTF_8) +
+            "&password=" + encode(loginDto.password(), UTF_8);
+        return exchange(key, loginData);
+    }
+
+    /**
+     * Mit einem Refresh-Token einen neuen Access-Token anfordern.
+     *
+     * @param refreshToken Refresh-Token von Keycloak
+     * @return Neuer Access-Token und Refresh-Token
+     */
+    public TokenDTO refresh(final String refreshToken) {
+        final var key = "refresh:" + hash(refreshToken);
+        final var refreshData = "grant_type=refresh_token&refresh_token=" + encode(refreshToken, UTF_8);
+        return exchange(key, refreshData);
+    }
+
+    private TokenDTO exchange(final String key, final String formData) {
+        final var future = new CompletableFuture<TokenDTO>();
+        final var pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) {
+            log.debug("exchange: wartet auf laufenden Request");
+            return join(pending);
+        }
+
+        try {
+            return complete(future, () -> keycloakRepository.login(
+                formData,
+                authorization,
+                APPLICATION_FORM_URLENCODED_VALUE
+            ));
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static TokenDTO complete(final CompletableFuture<TokenDTO> future, final Supplier<TokenDTO> call) {
+        try {
+            final var tokenDTO = call.get();
+            future.complete(tokenDTO);
+            return tokenDTO;
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    private static TokenDTO join(final CompletableFuture<TokenDTO> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static String hash(final String value) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
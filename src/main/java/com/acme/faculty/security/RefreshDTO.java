@@ -0,0 +1,12 @@
+package com.acme.faculty.security;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * JSON-Datensatz, um mit einem Refresh-Token einen neuen Access-Token anzufordern.
+ *
+ * @author Ahmad Hawarnah
+ * @param refreshToken Refresh-Token von Keycloak
+ */
+public record RefreshDTO(@JsonProperty("refresh_token") String refreshToken) {
+}
@@ -16,14 +16,19 @@
  */
 package com.acme.faculty.security;
 
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.security.core.GrantedAuthority;
 
 /**
  * Singleton für verfügbare Rollen als Strings für das Spring-Interface GrantedAuthority.
  *
  * @author <a href="mailto:Juergen.Zimmermann@h-ka.de">Jürgen Zimmermann</a>
  */
-public enum Rolle {
+public enum Rolle implements GrantedAuthority {
     /**
      * Die Rolle ADMIN.
      */
@@ -34,6 +39,16 @@ public enum Rolle {
      */
     USER;
 
+    /**
+     * Präfix für den String einer Rolle bei GrantedAuthority.
+     */
+    public static final String ROLE_PREFIX = "ROLE_";
+
+    private static final Map<String, Rolle> BY_NAME = Arrays.stream(values())
+        .collect(Collectors.toUnmodifiableMap(rolle -> rolle.name().toLowerCase(Locale.ROOT), Function.identity()));
+
+    private final String authority = ROLE_PREFIX + name();
+
     /**
      * Zu einem String die Rolle als Enum ermitteln.
      *
@@ -41,9 +56,16 @@ public enum Rolle {
      * @return Rolle als Enum oder null
      */
     public static Rolle of(final String str) {
-        return Stream.of(values())
-            .filter(rolle -> rolle.name().equalsIgnoreCase(str))
-            .findFirst()
-            .orElse(null);
+        return str == null ? null : BY_NAME.get(str.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Die Rolle als String für Spring Security, z.B. "ROLE_ADMIN".
+     *
+     * @return String für GrantedAuthority
+     */
+    @Override
+    public String getAuthority() {
+        return authority;
     }
 }
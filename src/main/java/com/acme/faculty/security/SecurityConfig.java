@@ -16,14 +16,14 @@
  */
 package com.acme.faculty.security;
 
+import com.acme.faculty.repository.JpaStatsEndpoint;
+import com.c4_soft.springaddons.security.oidc.starter.synchronised.resourceserver.JwtAbstractAuthenticationTokenConverter;
 import com.c4_soft.springaddons.security.oidc.starter.synchronised.resourceserver.ResourceServerExpressionInterceptUrlRegistryPostProcessor;
 import java.util.Map;
 import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
-import org.springframework.core.convert.converter.Converter;
-import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.authentication.password.CompromisedPasswordChecker;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -31,10 +31,14 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.password.HaveIBeenPwnedRestApiPasswordChecker;
+import static com.acme.faculty.controller.FacultyChangeController.CHANGES_PATH;
+import static com.acme.faculty.controller.FacultyChangeController.EVENTS_PATH;
 import static com.acme.faculty.controller.FacultyGetController.REST_PATH;
+import static com.acme.faculty.controller.FacultyReactiveController.REACTIVE_PATH;
+import static com.acme.faculty.controller.FacultyWriteController.BULK_PATH;
 import static com.acme.faculty.security.AuthController.AUTH_PATH;
 import static com.acme.faculty.security.Rolle.ADMIN;
 import static com.acme.faculty.security.Rolle.USER;
@@ -82,7 +86,7 @@ public interface SecurityConfig {
     @SuppressWarnings("LambdaBodyLength")
     default SecurityFilterChain securityFilterChain(
         final HttpSecurity http,
-        final Converter<Jwt, AbstractAuthenticationToken> authenticationConverter
+        final JwtAbstractAuthenticationTokenConverter authenticationConverter
     ) throws Exception {
         return http
             .authorizeHttpRequests(authorize -> {
@@ -93,7 +97,8 @@ public interface SecurityConfig {
 
                     // https://spring.io/blog/2020/06/30/url-matching-with-pathpattern-in-spring-mvc
                     // https://docs.spring.io/spring-security/reference/current/servlet/integrations/mvc.html
-                    .requestMatchers(GET, REST_PATH).hasRole(ADMIN.name())
+                    .requestMatchers(GET, REST_PATH, REACTIVE_PATH, REST_PATH + EVENTS_PATH, REST_PATH + CHANGES_PATH)
+                    .hasRole(ADMIN.name())
                     /*.requestMatchers(
                         GET,
                         REST_PATH + NACHNAME_PATH + "/*",
@@ -105,8 +110,11 @@ public interface SecurityConfig {
                     .requestMatchers(DELETE, restPathfacultyId).hasRole(ADMIN.name())
 
                     .requestMatchers(POST, "/dev/db_populate").hasRole(ADMIN.name())
+                    .requestMatchers(POST, REST_PATH + BULK_PATH).hasRole(ADMIN.name())
+                    .requestMatchers(EndpointRequest.to(JpaStatsEndpoint.class)).hasRole(ADMIN.name())
 
-                    .requestMatchers(POST, REST_PATH, "/graphql", AUTH_PATH + "/login").permitAll()
+                    .requestMatchers(POST, REST_PATH, "/graphql", AUTH_PATH + "/login", AUTH_PATH + "/refresh")
+                    .permitAll()
 
                     .requestMatchers(
                         // Actuator: Health mit Liveness und Readiness fuer Kubernetes
@@ -137,6 +145,22 @@ public interface SecurityConfig {
             .build();
     }
 
+    /**
+     * Bean-Methode, um ein validiertes JWT in ein Authentication-Objekt mit den Rollen als GrantedAuthority
+     * umzuwandeln. Benutzername und Rollen werden von JwtService pro JWT gepuffert. Wegen des Typs
+     * JwtAbstractAuthenticationTokenConverter wird der Converter von spring-addons nicht zusätzlich erzeugt.
+     *
+     * @param jwtService Service für Benutzername und Rollen aus einem JWT
+     * @return Converter für Spring Security
+     */
+    @Bean
+    default JwtAbstractAuthenticationTokenConverter authenticationConverter(final JwtService jwtService) {
+        return jwt -> {
+            final var principal = jwtService.getPrincipal(jwt);
+            return new JwtAuthenticationToken(jwt, principal.rollen(), principal.username());
+        };
+    }
+
     /**
      * Bean-Methode für die Überprüfung, ob ein Passwort ein bekanntes ("gehacktes") Passwort ist.
      *
@@ -0,0 +1,62 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Ergebnis für eine einzelne Fakultät beim Neuanlegen bzw. Aktualisieren vieler Fakultäten.
+ *
+ * @author Ahmad Hawarnah
+ * @param index Position der Fakultät im Request-Body
+ * @param status Ergebnis für die Fakultät
+ * @param id ID der neu angelegten bzw. aktualisierten Fakultät
+ * @param detail Fehlermeldung, falls die Fakultät nicht gespeichert wurde
+ */
+@JsonInclude(NON_NULL)
+public record BulkResult(int index, Status status, UUID id, String detail) {
+    /**
+     * Mögliche Ergebnisse für eine einzelne Fakultät.
+     */
+    public enum Status {
+        /**
+         * Die Fakultät wurde neu angelegt.
+         */
+        CREATED,
+
+        /**
+         * Eine vorhandene Fakultät mit gleichem Namen wurde aktualisiert.
+         */
+        UPDATED,
+
+        /**
+         * Eine Fakultät mit dem Namen existiert bereits.
+         */
+        NAME_EXISTS,
+
+        /**
+         * Der Dekan ist bereits einer anderen Fakultät zugeordnet.
+         */
+        DEAN_EXISTS,
+
+        /**
+         * Name oder Dekan kommen im Request-Body mehrfach vor.
+         */
+        DUPLICATE,
+
+        /**
+         * Die Fakultät verletzt mindestens ein Constraint.
+         */
+        INVALID
+    }
+
+    static BulkResult of(final int index, final Faculty faculty, final Status status) {
+        return new BulkResult(index, status, faculty.getId(), null);
+    }
+
+    static BulkResult failed(final int index, final Status status, final String detail) {
+        return new BulkResult(index, status, null, detail);
+    }
+}
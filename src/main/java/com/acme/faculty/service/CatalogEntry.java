@@ -0,0 +1,60 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Course;
+import com.acme.faculty.entity.Dean;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultySummary;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Unveränderliche Kopie einer Fakultät im Katalog mit vorberechneten Suchbegriffen.
+ *
+ * @author Ahmad Hawarnah
+ * @param summary Die Fakultät mit Dekan und Kursen
+ * @param version Versionsnummer der Fakultät
+ * @param nameLower Name der Fakultät in Kleinbuchstaben
+ * @param deanNameLower Name des Dekans in Kleinbuchstaben
+ */
+record CatalogEntry(FacultySummary summary, int version, String nameLower, String deanNameLower) {
+    static CatalogEntry of(final Faculty faculty) {
+        final var dean = faculty.getDean();
+        final var courses = faculty.getCourses()
+            .stream()
+            .map(course -> new CourseSummary(faculty.getId(), course.getId(), course.getName()))
+            .toList();
+        final var summary = new FacultySummary(
+            faculty.getId(),
+            faculty.getName(),
+            new DeanSummary(dean.getId(), dean.getName(), dean.getEmail()),
+            courses
+        );
+        return new CatalogEntry(
+            summary,
+            faculty.getVersion(),
+            faculty.getName().toLowerCase(Locale.ROOT),
+            dean.getName().toLowerCase(Locale.ROOT)
+        );
+    }
+
+    /**
+     * Eine neue, nicht verwaltete Fakultät zu diesem Eintrag erstellen, so dass Aufrufer den Katalog nicht verändern
+     * können.
+     *
+     * @return Kopie als Entity-Objekt ohne Persistence Context
+     */
+    Faculty toFaculty() {
+        final var dean = summary.dean();
+        final var courses = new ArrayList<Course>(summary.courses().size());
+        summary.courses().forEach(course -> courses.add(new Course(course.id(), course.name())));
+        return Faculty.builder()
+            .id(summary.id())
+            .version(version)
+            .name(summary.name())
+            .dean(new Dean(dean.id(), dean.name(), dean.email()))
+            .courses(courses)
+            .build();
+    }
+}
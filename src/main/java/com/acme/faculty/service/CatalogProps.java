@@ -0,0 +1,23 @@
+package com.acme.faculty.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.catalog.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param enabled true, falls die Suche aus dem Katalog im Hauptspeicher beantwortet werden soll
+ * @param refreshInterval Abstand, in dem der Katalog vollständig neu geladen wird, z.B. für Änderungen durch andere
+ *                        Instanzen des Microservice
+ */
+@ConfigurationProperties(prefix = "app.catalog")
+public record CatalogProps(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("5m")
+    Duration refreshInterval
+) {
+}
@@ -0,0 +1,191 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.repository.FacultySummary;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import static com.acme.faculty.service.FacultyReadService.CATALOG_KEY;
+
+/**
+ * Unveränderlicher Stand des Katalogs: die Fakultäten sortiert nach Name und ID für Keyset-Pagination, indiziert
+ * nach ID sowie ein invertierter Index von den Kursnamen auf die Fakultäten. Änderungen erzeugen einen neuen Stand
+ * (Copy-on-Write), so dass Lesezugriffe ohne Sperren auskommen.
+ * <p>
+ * Die Namen werden wie bei String.compareTo() sortiert und nicht mit der Collation der DB. Positionen aus dem Katalog
+ * sind deshalb mit {@value FacultyReadService#CATALOG_KEY} markiert, damit die Folgeseiten ebenfalls aus dem Katalog
+ * ermittelt werden.
+ *
+ * @author Ahmad Hawarnah
+ */
+final class CatalogSnapshot {
+    // IDs wie in PostgreSQL vorzeichenlos vergleichen; UUID.compareTo() vergleicht die beiden long-Werte mit Vorzeichen
+    private static final Comparator<UUID> UUID_ORDER = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+    private static final Comparator<CatalogEntry> KEYSET_ORDER = Comparator
+        .comparing((CatalogEntry entry) -> entry.summary().name())
+        .thenComparing(entry -> entry.summary().id(), UUID_ORDER);
+
+    private final List<CatalogEntry> sorted;
+    private final Map<UUID, CatalogEntry> byId;
+    private final Map<String, Set<UUID>> byCourseName;
+
+    CatalogSnapshot(final Collection<CatalogEntry> entries) {
+        final var list = new ArrayList<>(entries);
+        list.sort(KEYSET_ORDER);
+        sorted = Collections.unmodifiableList(list);
+
+        final var ids = new HashMap<UUID, CatalogEntry>(entries.size() * 2);
+        final var courses = new HashMap<String, Set<UUID>>();
+        entries.forEach(entry -> {
+            final var id = entry.summary().id();
+            ids.put(id, entry);
+            entry.summary().courses().forEach(course -> courses
+                .computeIfAbsent(course.name().toLowerCase(Locale.ROOT), _ -> new HashSet<>())
+                .add(id));
+        });
+        byId = Collections.unmodifiableMap(ids);
+        byCourseName = Collections.unmodifiableMap(courses);
+    }
+
+    /**
+     * Neuer Stand mit geänderten und ohne gelöschte Einträge. Ein vorhandener Eintrag wird nur durch einen Eintrag mit
+     * mindestens derselben Versionsnummer ersetzt, so dass ein verspätet gelesener Stand keine neuere Änderung
+     * überschreibt.
+     *
+     * @param changed Neue oder aktualisierte Einträge
+     * @param removed IDs gelöschter Fakultäten
+     * @return Neuer Stand
+     */
+    CatalogSnapshot with(final Collection<CatalogEntry> changed, final Collection<UUID> removed) {
+        if (changed.isEmpty() && removed.stream().noneMatch(byId::containsKey)) {
+            return this;
+        }
+        final var entries = new HashMap<>(byId);
+        changed.forEach(entry -> entries.merge(entry.summary().id(), entry, CatalogSnapshot::newer));
+        removed.forEach(entries::remove);
+        return new CatalogSnapshot(entries.values());
+    }
+
+    private static CatalogEntry newer(final CatalogEntry old, final CatalogEntry neu) {
+        return neu.version() >= old.version() ? neu : old;
+    }
+
+    Optional<CatalogEntry> get(final UUID id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    int size() {
+        return sorted.size();
+    }
+
+    /**
+     * Eine Seite mit Keyset-Pagination über Name und ID suchen, mit derselben Semantik wie SpecificationBuilder, d.h.
+     * Teilstrings ohne Beachtung der Groß-/Kleinschreibung.
+     *
+     * @param criteria Die Suchkriterien
+     * @param position Position hinter der letzten Fakultät der vorherigen Seite oder die initiale Position
+     * @param limit Maximale Anzahl an Fakultäten in der Seite
+     * @return Die Seite oder ein leeres Optional, falls die Suchkriterien nicht unterstützt werden
+     */
+    Optional<Window<FacultySummary>> find(
+        final Map<String, List<String>> criteria,
+        final KeysetScrollPosition position,
+        final int limit
+    ) {
+        final var filter = toFilter(criteria);
+        if (filter.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var page = new ArrayList<FacultySummary>(limit);
+        var hasNext = false;
+        for (var i = startIndex(position); i < sorted.size(); i++) {
+            final var entry = sorted.get(i);
+            if (!filter.get().test(entry)) {
+                continue;
+            }
+            if (page.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            page.add(entry.summary());
+        }
+        return Optional.of(Window.from(page, index -> positionOf(page.get(index)), hasNext));
+    }
+
+    private int startIndex(final KeysetScrollPosition position) {
+        if (position.isInitial()) {
+            return 0;
+        }
+        final var keys = position.getKeys();
+        final var name = (String) keys.get("name");
+        final var id = (UUID) keys.get("id");
+        var low = 0;
+        var high = sorted.size();
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            final var summary = sorted.get(mid).summary();
+            final var cmp = summary.name().compareTo(name);
+            if (cmp < 0 || cmp == 0 && UUID_ORDER.compare(summary.id(), id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static ScrollPosition positionOf(final FacultySummary summary) {
+        return ScrollPosition.forward(Map.of("name", summary.name(), "id", summary.id(), CATALOG_KEY, true));
+    }
+
+    private Optional<Predicate<CatalogEntry>> toFilter(final Map<String, List<String>> criteria) {
+        Predicate<CatalogEntry> filter = _ -> true;
+        for (final var criterion : criteria.entrySet()) {
+            final var values = criterion.getValue();
+            if (values == null || values.size() != 1) {
+                return Optional.empty();
+            }
+            final var teil = values.get(0).toLowerCase(Locale.ROOT);
+            filter = switch (criterion.getKey()) {
+                case "name" -> filter.and(entry -> entry.nameLower().contains(teil));
+                case "dean" -> filter.and(entry -> entry.deanNameLower().contains(teil));
+                case "course" -> {
+                    final var ids = facultiesWithCourse(teil);
+                    yield filter.and(entry -> ids.contains(entry.summary().id()));
+                }
+                default -> null;
+            };
+            if (filter == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(filter);
+    }
+
+    private Set<UUID> facultiesWithCourse(final String teil) {
+        // nur ueber die verschiedenen Kursnamen, nicht ueber alle Kurse aller Fakultaeten
+        final var ids = new HashSet<UUID>();
+        byCourseName.forEach((courseName, facultyIds) -> {
+            if (courseName.contains(teil)) {
+                ids.addAll(facultyIds);
+            }
+        });
+        return ids;
+    }
+}
@@ -0,0 +1,43 @@
+package com.acme.faculty.service;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Optional;
+
+/**
+ * ID eines Events im Change-Feed für "Last-Event-ID", z.B. "1729263693123-42". Die Epoche ist der Startzeitpunkt der
+ * Instanz des Microservice in Millisekunden, die Sequenz ist innerhalb der Epoche fortlaufend. Eine ID aus einer
+ * anderen Epoche, z.B. nach einem Neustart oder von einer anderen Instanz, kann deshalb erkannt werden.
+ *
+ * @author Ahmad Hawarnah
+ * @param epoch Startzeitpunkt der Instanz in Millisekunden
+ * @param sequence Fortlaufende Nummer innerhalb der Epoche
+ */
+public record ChangeEventId(long epoch, long sequence) {
+    private static final char SEPARATOR = '-';
+
+    /**
+     * Eine ID aus dem Header "Last-Event-ID" einlesen.
+     *
+     * @param value Der Wert des Headers
+     * @return Die ID oder ein leeres Optional, falls der Wert kein gültiges Format hat
+     */
+    public static Optional<ChangeEventId> parse(final String value) {
+        final var separator = value.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == value.length() - 1) {
+            return Optional.empty();
+        }
+        try {
+            final var epoch = Long.parseLong(value, 0, separator, 10);
+            final var sequence = Long.parseLong(value, separator + 1, value.length(), 10);
+            return epoch < 0 || sequence < 0 ? Optional.empty() : Optional.of(new ChangeEventId(epoch, sequence));
+        } catch (final NumberFormatException ex) {
+            return Optional.empty();
+        }
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        return String.valueOf(epoch) + SEPARATOR + sequence;
+    }
+}
@@ -0,0 +1,32 @@
+package com.acme.faculty.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.change-feed.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param retained Anzahl der letzten Änderungen, die für die Wiederaufnahme mit "Last-Event-ID" aufbewahrt werden
+ * @param bufferSize Maximale Anzahl an noch nicht gesendeten Änderungen pro Client; bei Überlauf wird die älteste
+ *                   verworfen
+ * @param heartbeat Abstand, in dem ohne Änderungen ein Kommentar gesendet wird, damit Proxies die Verbindung nicht
+ *                  schließen
+ * @param timeout Maximale Dauer einer Verbindung, danach baut der Client sie mit "Last-Event-ID" neu auf
+ */
+@ConfigurationProperties(prefix = "app.change-feed")
+public record ChangeFeedProps(
+    @DefaultValue("10000")
+    int retained,
+
+    @DefaultValue("256")
+    int bufferSize,
+
+    @DefaultValue("15s")
+    Duration heartbeat,
+
+    @DefaultValue("30m")
+    Duration timeout
+) {
+}
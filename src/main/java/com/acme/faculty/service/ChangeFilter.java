@@ -0,0 +1,39 @@
+package com.acme.faculty.service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Filter eines Clients für den Change-Feed. Ohne IDs und Präfix werden alle Änderungen geliefert.
+ *
+ * @author Ahmad Hawarnah
+ * @param ids IDs der Fakultäten, die den Client interessieren, oder eine leere Menge
+ * @param namePrefix Anfang des Namens ohne Beachtung der Groß-/Kleinschreibung oder null
+ */
+public record ChangeFilter(Set<UUID> ids, @Nullable String namePrefix) {
+    /**
+     * Konstruktor mit einer unveränderlichen Kopie der IDs und dem Präfix in Kleinbuchstaben.
+     *
+     * @param ids IDs der Fakultäten, die den Client interessieren, oder eine leere Menge
+     * @param namePrefix Anfang des Namens ohne Beachtung der Groß-/Kleinschreibung oder null
+     */
+    public ChangeFilter {
+        ids = Set.copyOf(ids);
+        namePrefix = namePrefix == null || namePrefix.isEmpty() ? null : namePrefix.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Abfrage, ob eine Änderung zum Filter passt.
+     *
+     * @param change Die Änderung
+     * @return true, falls die Änderung an den Client gesendet werden soll
+     */
+    public boolean test(final FacultyChange change) {
+        if (!ids.isEmpty() && !ids.contains(change.id())) {
+            return false;
+        }
+        return namePrefix == null || change.name().toLowerCase(Locale.ROOT).startsWith(namePrefix);
+    }
+}
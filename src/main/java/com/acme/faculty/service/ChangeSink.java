@@ -0,0 +1,39 @@
+package com.acme.faculty.service;
+
+import java.io.IOException;
+
+/**
+ * Ziel für die Änderungen eines Clients im Change-Feed, z.B. eine SSE-Verbindung. Die Methoden werden nacheinander
+ * von einem eigenen (virtuellen) Thread pro Client aufgerufen und dürfen blockieren.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface ChangeSink {
+    /**
+     * Eine Änderung senden.
+     *
+     * @param change Die Änderung
+     * @throws IOException falls die Verbindung zum Client unterbrochen ist
+     */
+    void send(FacultyChange change) throws IOException;
+
+    /**
+     * Mitteilen, dass Änderungen verloren gegangen sind, weil der Puffer übergelaufen ist oder die "Last-Event-ID"
+     * nicht mehr aufbewahrt wird. Der Client muss die Fakultäten neu lesen.
+     *
+     * @throws IOException falls die Verbindung zum Client unterbrochen ist
+     */
+    void gap() throws IOException;
+
+    /**
+     * Ein Lebenszeichen ohne Änderung senden.
+     *
+     * @throws IOException falls die Verbindung zum Client unterbrochen ist
+     */
+    void heartbeat() throws IOException;
+
+    /**
+     * Die Verbindung beenden, z.B. beim Herunterfahren.
+     */
+    void complete();
+}
@@ -0,0 +1,115 @@
+package com.acme.faculty.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Client im Change-Feed mit einem beschränkten Puffer: ist er voll, wird die älteste Änderung verworfen, damit ein
+ * langsamer Client weder den Commit noch andere Clients aufhält. Ein eigener virtueller Thread sendet aus dem Puffer.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Slf4j
+final class ChangeSubscriber implements ChangeSubscription {
+    private final ChangeFilter filter;
+    private final ChangeSink sink;
+    private final Duration heartbeat;
+    private final Consumer<ChangeSubscriber> onClose;
+    private final BlockingDeque<FacultyChange> buffer;
+    private final AtomicBoolean gap = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread thread;
+
+    ChangeSubscriber(
+        final ChangeFilter filter,
+        final ChangeSink sink,
+        final int bufferSize,
+        final Duration heartbeat,
+        final Consumer<ChangeSubscriber> onClose
+    ) {
+        this.filter = filter;
+        this.sink = sink;
+        this.heartbeat = heartbeat;
+        this.onClose = onClose;
+        buffer = new LinkedBlockingDeque<>(bufferSize);
+    }
+
+    /**
+     * Eine Änderung in den Puffer eintragen, falls sie zum Filter passt. Blockiert nicht.
+     *
+     * @param change Die Änderung
+     */
+    void offer(final FacultyChange change) {
+        if (closed.get() || !filter.test(change)) {
+            return;
+        }
+        while (!buffer.offerLast(change)) {
+            if (buffer.pollFirst() != null) {
+                dropped.incrementAndGet();
+                gap.set(true);
+            }
+        }
+    }
+
+    /**
+     * Vor dem Start mitteilen, dass die gewünschten Änderungen nicht mehr vollständig aufbewahrt werden.
+     */
+    void markGap() {
+        gap.set(true);
+    }
+
+    void start(final ThreadFactory threadFactory) {
+        thread = threadFactory.newThread(this::run);
+        thread.start();
+    }
+
+    @Override
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        onClose.accept(this);
+        final var current = thread;
+        if (current != null && current != Thread.currentThread()) {
+            current.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!closed.get()) {
+                final var change = buffer.pollFirst(heartbeat.toMillis(), MILLISECONDS);
+                if (gap.getAndSet(false)) {
+                    sink.gap();
+                }
+                if (change == null) {
+                    sink.heartbeat();
+                } else {
+                    sink.send(change);
+                }
+            }
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (final IOException | RuntimeException ex) {
+            log.debug("run: Verbindung beendet: {}", ex.getMessage());
+        } finally {
+            close();
+            sink.complete();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.acme.faculty.service;
+
+/**
+ * Anmeldung eines Clients beim Change-Feed.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface ChangeSubscription {
+    /**
+     * Anzahl der Änderungen, die wegen eines vollen Puffers verworfen wurden.
+     *
+     * @return Anzahl der verworfenen Änderungen
+     */
+    long dropped();
+
+    /**
+     * Den Client abmelden. Mehrfaches Aufrufen ist erlaubt.
+     */
+    void close();
+}
@@ -0,0 +1,216 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.FacultySummary;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW;
+
+/**
+ * Optionaler Katalog aller Fakultäten im Hauptspeicher ("app.catalog.enabled"). Der Katalog wird beim Start
+ * vollständig geladen, nach jedem Commit von FacultyWriteService um die geänderten Fakultäten aktualisiert und in
+ * Abständen vollständig neu geladen. Beides liest von der primären DB, damit ein verzögertes Replikat keine bereits
+ * übernommene Änderung zurücksetzt. Ein Eintrag wird nur durch eine neuere Version ersetzt, und ein reload()
+ * übernimmt die Änderungen, die während der Query committed wurden. Ein neuer Stand wird atomar ausgetauscht;
+ * Lesezugriffe greifen weder auf die DB zu noch benötigen sie Sperren.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@Slf4j
+class FacultyCatalog {
+    /**
+     * Maximale Anzahl an IDs pro Query, wenn die Fakultäten nach einem Commit neu gelesen werden.
+     */
+    static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final FacultyRepository repo;
+    private final TransactionTemplate primaryTransaction;
+    private final CatalogProps props;
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("faculty-catalog").factory());
+
+    // null, solange der Katalog nicht geladen ist
+    private volatile CatalogSnapshot snapshot;
+
+    // Aenderungen waehrend eines laufenden reload(), sonst null; Zugriff nur mit der Sperre auf this
+    private List<CatalogEntry> changedDuringReload;
+    private Set<UUID> removedDuringReload;
+
+    FacultyCatalog(
+        final FacultyRepository repo,
+        final PlatformTransactionManager transactionManager,
+        final CatalogProps props
+    ) {
+        this.repo = repo;
+        // nicht read-only, d.h. von der primaeren DB lesen: ein Replikat enthaelt eine Aenderung evtl. noch nicht,
+        // die refresh() bereits uebernommen hat. REQUIRES_NEW auch nach dem Commit einer anderen Transaktion, deren
+        // Ressourcen noch gebunden sind.
+        primaryTransaction = new TransactionTemplate(transactionManager);
+        primaryTransaction.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        this.props = props;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!props.enabled()) {
+            return;
+        }
+        final var interval = props.refreshInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::reload, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Eine Fakultät im Katalog suchen.
+     *
+     * @param id ID der Fakultät
+     * @return Der Eintrag oder ein leeres Optional, falls der Katalog nicht geladen ist oder die Fakultät nicht enthält
+     */
+    Optional<CatalogEntry> findById(final UUID id) {
+        final var current = snapshot;
+        return current == null ? Optional.empty() : current.get(id);
+    }
+
+    /**
+     * Eine Seite mit Keyset-Pagination im Katalog suchen.
+     *
+     * @param criteria Die Suchkriterien
+     * @param position Position hinter der letzten Fakultät der vorherigen Seite oder die initiale Position
+     * @param limit Maximale Anzahl an Fakultäten in der Seite
+     * @return Die Seite oder ein leeres Optional, falls der Katalog nicht geladen ist oder die Suchkriterien nicht
+     *      unterstützt werden
+     */
+    Optional<Window<FacultySummary>> find(
+        final Map<String, List<String>> criteria,
+        final KeysetScrollPosition position,
+        final int limit
+    ) {
+        final var current = snapshot;
+        return current == null ? Optional.empty() : current.find(criteria, position, limit);
+    }
+
+    /**
+     * Die IDs der geänderten Fakultäten pro Transaktion sammeln. Nach dem Commit werden sie gemeinsam gelesen und in
+     * einem neuen Stand übernommen, so dass z.B. ein Bulk-Insert den Katalog nur einmal neu aufbaut.
+     *
+     * @param event Das Event von FacultyWriteService
+     */
+    @EventListener
+    void onFacultyChanged(final FacultyChangedEvent event) {
+        if (!props.enabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pending().add(event.faculty().getId());
+    }
+
+    private Set<UUID> pending() {
+        @SuppressWarnings("unchecked")
+        final var current = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (current != null) {
+            return current;
+        }
+        final var pending = new HashSet<UUID>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh(pending);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(FacultyCatalog.this);
+            }
+        });
+        return pending;
+    }
+
+    private void refresh(final Set<UUID> ids) {
+        // neu lesen statt die Events zu kopieren: nach clear() koennen sie nicht initialisierte Proxies enthalten
+        final var changed = new ArrayList<CatalogEntry>(ids.size());
+        try {
+            final var idList = List.copyOf(ids);
+            primaryTransaction.executeWithoutResult(_ -> {
+                for (var from = 0; from < idList.size(); from += REFRESH_CHUNK_SIZE) {
+                    final var chunk = idList.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, idList.size()));
+                    repo.findAllByIdFetchDeanAndCourses(chunk)
+                        .forEach(faculty -> changed.add(CatalogEntry.of(faculty)));
+                }
+            });
+        } catch (final RuntimeException ex) {
+            // die Aenderungen sind bereits committed: der naechste reload() uebernimmt sie
+            log.warn("refresh: {} Fakultaeten nicht gelesen", ids.size(), ex);
+            return;
+        }
+        final var removed = new HashSet<>(ids);
+        changed.forEach(entry -> removed.remove(entry.summary().id()));
+        apply(changed, removed);
+        log.trace("refresh: {} geaendert, {} geloescht", changed.size(), removed.size());
+    }
+
+    private synchronized void apply(final Collection<CatalogEntry> changed, final Collection<UUID> removed) {
+        if (changedDuringReload != null) {
+            changedDuringReload.addAll(changed);
+            removedDuringReload.addAll(removed);
+        }
+        final var current = snapshot;
+        if (current != null) {
+            snapshot = current.with(changed, removed);
+        }
+    }
+
+    private void reload() {
+        synchronized (this) {
+            changedDuringReload = new ArrayList<>();
+            removedDuringReload = new HashSet<>();
+        }
+        try {
+            // der Katalog enthaelt ohnehin alle Fakultaeten: eine Query mit Dekan und Kursen statt eines Cursors
+            final var entries = primaryTransaction.execute(_ -> repo.findAll()
+                .stream()
+                .map(CatalogEntry::of)
+                .toList());
+            if (entries != null) {
+                synchronized (this) {
+                    // Aenderungen, die nach dem Beginn der Query committed wurden, sind darin evtl. nicht enthalten
+                    snapshot = new CatalogSnapshot(entries).with(changedDuringReload, removedDuringReload);
+                }
+                log.debug("reload: {} Fakultaeten", entries.size());
+            }
+        } catch (final RuntimeException ex) {
+            // bisherigen Stand weiter verwenden
+            log.warn("reload: Katalog nicht geladen", ex);
+        } finally {
+            synchronized (this) {
+                changedDuringReload = null;
+                removedDuringReload = null;
+            }
+        }
+    }
+}
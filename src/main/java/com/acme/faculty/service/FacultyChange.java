@@ -0,0 +1,27 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.service.FacultyChangedEvent.ChangeType;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Eine Änderung im Change-Feed, d.h. ohne Dekan und Kurse. Die Event-ID ist pro Instanz des Microservice fortlaufend
+ * und enthält den Startzeitpunkt der Instanz.
+ *
+ * @author Ahmad Hawarnah
+ * @param eventId ID für "Last-Event-ID"
+ * @param id ID der Fakultät
+ * @param version Versionsnummer nach dem Commit, z.B. für "If-None-Match"
+ * @param name Name der Fakultät
+ * @param type Art der Änderung
+ * @param timestamp Zeitpunkt des Commits
+ */
+public record FacultyChange(
+    ChangeEventId eventId,
+    UUID id,
+    int version,
+    String name,
+    ChangeType type,
+    Instant timestamp
+) {
+}
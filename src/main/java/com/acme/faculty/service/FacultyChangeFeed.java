@@ -0,0 +1,119 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.service.FacultyChangedEvent.ChangeType;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Change-Feed für neu angelegte und aktualisierte Fakultäten, z.B. für Server-Sent Events statt Polling mit
+ * "If-None-Match". Die Änderungen werden nach dem Commit von FacultyWriteService verteilt und in einem beschränkten
+ * Log im Hauptspeicher aufbewahrt, so dass ein Client nach einem Verbindungsabbruch mit "Last-Event-ID" fortsetzen
+ * kann. Das Log gilt nur für diese Instanz des Microservice; die Event-IDs enthalten deshalb den Startzeitpunkt als
+ * Epoche. Eine "Last-Event-ID" aus einer anderen Epoche, z.B. nach einem Neustart oder von einer anderen Instanz hinter
+ * einem Load Balancer, führt zum Event "reset".
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@Slf4j
+public class FacultyChangeFeed {
+    private final ChangeFeedProps props;
+    private final Set<ChangeSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name("change-feed-", 0).factory();
+
+    private final long epoch = System.currentTimeMillis();
+
+    // guarded by this
+    private final Deque<FacultyChange> retained = new ArrayDeque<>();
+    private long lastSequence;
+
+    FacultyChangeFeed(final ChangeFeedProps props) {
+        this.props = props;
+    }
+
+    /**
+     * Einen Client anmelden. Mit einer "Last-Event-ID" werden zuerst die aufbewahrten späteren Änderungen gesendet;
+     * Anmeldung und Nachholen erfolgen atomar, so dass keine Änderung dazwischen verloren geht. Stammt die ID aus einer
+     * anderen Epoche oder ist sie ungültig, erhält der Client stattdessen das Event "reset".
+     *
+     * @param filter Filter des Clients
+     * @param lastEventId ID der zuletzt empfangenen Änderung oder null
+     * @param sink Ziel für die Änderungen
+     * @return Anmeldung, um den Client abzumelden
+     */
+    public synchronized @NonNull ChangeSubscription subscribe(
+        @NonNull final ChangeFilter filter,
+        @Nullable final String lastEventId,
+        @NonNull final ChangeSink sink
+    ) {
+        log.debug("subscribe: filter={}, lastEventId={}", filter, lastEventId);
+        final var subscriber = new ChangeSubscriber(
+            filter,
+            sink,
+            props.bufferSize(),
+            props.heartbeat(),
+            subscribers::remove
+        );
+        if (lastEventId != null) {
+            final var last = ChangeEventId.parse(lastEventId).filter(id -> id.epoch() == epoch);
+            if (last.isEmpty()) {
+                log.debug("subscribe: lastEventId={} nicht aus der Epoche {}", lastEventId, epoch);
+                subscriber.markGap();
+            } else {
+                replay(last.get().sequence(), subscriber);
+            }
+        }
+        subscribers.add(subscriber);
+        subscriber.start(threadFactory);
+        return subscriber;
+    }
+
+    private void replay(final long lastSequence, final ChangeSubscriber subscriber) {
+        final var oldest = retained.isEmpty() ? this.lastSequence + 1 : retained.getFirst().eventId().sequence();
+        if (lastSequence + 1 < oldest || lastSequence > this.lastSequence) {
+            subscriber.markGap();
+        }
+        retained.stream()
+            .filter(change -> change.eventId().sequence() > lastSequence)
+            .forEach(subscriber::offer);
+    }
+
+    /**
+     * Nach dem Commit eine Änderung an alle angemeldeten Clients verteilen.
+     *
+     * @param event Event von FacultyWriteService
+     */
+    @TransactionalEventListener
+    void onFacultyChanged(final FacultyChangedEvent event) {
+        final var faculty = event.faculty();
+        publish(faculty.getId(), faculty.getVersion(), faculty.getName(), event.type());
+    }
+
+    @PreDestroy
+    void stop() {
+        List.copyOf(subscribers).forEach(ChangeSubscriber::close);
+    }
+
+    private synchronized void publish(final UUID id, final int version, final String name, final ChangeType type) {
+        final var eventId = new ChangeEventId(epoch, ++lastSequence);
+        final var change = new FacultyChange(eventId, id, version, name, type, Instant.now());
+        log.trace("publish: {}", change);
+        retained.addLast(change);
+        if (retained.size() > props.retained()) {
+            retained.removeFirst();
+        }
+        subscribers.forEach(subscriber -> subscriber.offer(change));
+    }
+}
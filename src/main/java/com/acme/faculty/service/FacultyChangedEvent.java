@@ -0,0 +1,34 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+
+/**
+ * Event, das FacultyWriteService nach dem Neuanlegen oder Aktualisieren bzw. vor dem Löschen einer Fakultät
+ * veröffentlicht. Listener mit TransactionalEventListener erhalten das Event erst nach dem Commit, d.h. mit der
+ * aktuellen Versionsnummer.
+ *
+ * @author Ahmad Hawarnah
+ * @param faculty Die neu angelegte, aktualisierte oder gelöschte Fakultät
+ * @param type Art der Änderung
+ */
+public record FacultyChangedEvent(Faculty faculty, ChangeType type) {
+    /**
+     * Art der Änderung an einer Fakultät.
+     */
+    public enum ChangeType {
+        /**
+         * Die Fakultät wurde neu angelegt.
+         */
+        CREATED,
+
+        /**
+         * Die Fakultät wurde aktualisiert.
+         */
+        UPDATED,
+
+        /**
+         * Die Fakultät wurde gelöscht.
+         */
+        DELETED
+    }
+}
@@ -0,0 +1,39 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.repository.FacultySummary;
+import java.util.UUID;
+import org.springframework.lang.Nullable;
+
+/**
+ * Eine Änderung für die Synchronisation mit Deltas: der aktuelle Stand einer neu angelegten oder aktualisierten
+ * Fakultät oder ein Tombstone für eine gelöschte Fakultät.
+ *
+ * @author Ahmad Hawarnah
+ * @param changeSeq Position in der Änderungsfolge
+ * @param id ID der Fakultät
+ * @param type UPSERT oder DELETE
+ * @param version Versionsnummer oder null bei DELETE
+ * @param faculty Die Fakultät mit Dekan und Kursen oder null bei DELETE
+ */
+public record FacultyDelta(
+    long changeSeq,
+    UUID id,
+    Type type,
+    @Nullable Integer version,
+    @Nullable FacultySummary faculty
+) {
+    /**
+     * Art der Änderung aus Sicht eines Clients.
+     */
+    public enum Type {
+        /**
+         * Die Fakultät wurde neu angelegt oder aktualisiert und soll eingefügt bzw. ersetzt werden.
+         */
+        UPSERT,
+
+        /**
+         * Die Fakultät wurde gelöscht.
+         */
+        DELETE
+    }
+}
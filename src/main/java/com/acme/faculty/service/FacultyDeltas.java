@@ -0,0 +1,14 @@
+package com.acme.faculty.service;
+
+import java.util.List;
+
+/**
+ * Ergebnis von "GET /rest/changes": Änderungen seit einem Token.
+ *
+ * @author Ahmad Hawarnah
+ * @param changes Die Änderungen sortiert nach der Änderungsfolge; pro Fakultät nur der letzte Stand
+ * @param next Token für den nächsten Aufruf
+ * @param hasMore true, falls weitere Änderungen sofort mit dem Token "next" gelesen werden können
+ */
+public record FacultyDeltas(List<FacultyDelta> changes, String next, boolean hasMore) {
+}
@@ -0,0 +1,142 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.FacultyOutbox;
+import com.acme.faculty.repository.FacultyOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Veröffentlicht die offenen Einträge aus {@code faculty_outbox} mit einem {@linkplain OutboxPublisher}. Mehrere
+ * virtuelle Threads sperren jeweils einen Block mit "FOR UPDATE SKIP LOCKED", so dass sie sich - auch über Instanzen
+ * des Microservice hinweg - nicht gegenseitig blockieren. Pro Fakultät wird jeweils nur der älteste offene Eintrag
+ * gesperrt, damit die Reihenfolge ihrer Änderungen erhalten bleibt. Schlägt die Übergabe eines Blocks fehl, wird er
+ * halbiert und die Hälften werden erneut übergeben, bis die fehlerhaften Einträge einzeln feststehen. Nur diese werden
+ * mit exponentiell wachsender Wartezeit erneut versucht und nach "app.outbox.max-attempts" Versuchen als "Dead Letter"
+ * markiert, d.h. mit {@code failed_at} und ohne weitere Versuche.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@Slf4j
+class FacultyOutboxRelay {
+    private static final long CLEANUP_INTERVAL_HOURS = 1;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final FacultyOutboxRepository repo;
+    private final OutboxPublisher publisher;
+    private final OutboxProps props;
+    private final TransactionTemplate transaction;
+    private final ScheduledExecutorService scheduler;
+
+    FacultyOutboxRelay(
+        final FacultyOutboxRepository repo,
+        final OutboxPublisher publisher,
+        final OutboxProps props,
+        final PlatformTransactionManager transactionManager
+    ) {
+        this.repo = repo;
+        this.publisher = publisher;
+        this.props = props;
+        transaction = new TransactionTemplate(transactionManager);
+        scheduler = Executors.newScheduledThreadPool(
+            props.workers(),
+            Thread.ofVirtual().name("faculty-outbox-", 0).factory()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (!props.enabled() || !props.relay()) {
+            return;
+        }
+        final var interval = props.pollInterval().toMillis();
+        for (var i = 0; i < props.workers(); i++) {
+            scheduler.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(this::cleanup, 0, CLEANUP_INTERVAL_HOURS, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void drain() {
+        try {
+            // solange volle Blöcke gelesen werden, sofort weiter statt bis zum nächsten Intervall zu warten
+            while (drainBatch() == props.batchSize()) {
+                log.trace("drain: naechster Block");
+            }
+        } catch (final RuntimeException ex) {
+            // ohne catch würde der ScheduledExecutorService keine weiteren Durchläufe starten
+            log.warn("drain: {}", ex.getMessage());
+        }
+    }
+
+    // Anzahl der veroeffentlichten Eintraege: nach einem Fehler wartet drain() auf das naechste Intervall
+    int drainBatch() {
+        final var count = transaction.execute(_ -> {
+            final var now = Instant.now();
+            final var entries = repo.lockPending(props.batchSize(), now);
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            final var published = publish(entries, now);
+            log.debug("drainBatch: {} von {} Eintraegen veroeffentlicht", published, entries.size());
+            return published;
+        });
+        return count == null ? 0 : count;
+    }
+
+    private int publish(final List<FacultyOutbox> entries, final Instant now) {
+        try {
+            publisher.publish(entries.stream().map(OutboxMessage::of).toList());
+        } catch (final RuntimeException ex) {
+            if (entries.size() == 1) {
+                log.warn("publish: id={} nicht veroeffentlicht: {}", entries.getFirst().getId(), ex.getMessage());
+                failed(entries.getFirst(), now);
+                return 0;
+            }
+            // halbieren, damit eine fehlerhafte Nachricht nicht die uebrigen Eintraege des Blocks mitreisst
+            final var middle = entries.size() / 2;
+            return publish(entries.subList(0, middle), now) + publish(entries.subList(middle, entries.size()), now);
+        }
+        entries.forEach(entry -> entry.setPublishedAt(now));
+        return entries.size();
+    }
+
+    private void failed(final FacultyOutbox entry, final Instant now) {
+        final var attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        if (attempts >= props.maxAttempts()) {
+            log.error("failed: id={}, facultyId={} nach {} Versuchen aufgegeben", entry.getId(), entry.getFacultyId(),
+                attempts);
+            entry.setFailedAt(now);
+            return;
+        }
+        // 1s, 2s, 4s, ... bis maxBackoff; der Exponent ist begrenzt, damit multipliedBy() nicht ueberlaeuft
+        final var backoff = props.backoff().multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        final var delay = backoff.compareTo(props.maxBackoff()) > 0 ? props.maxBackoff() : backoff;
+        entry.setNextAttemptAt(now.plus(delay));
+    }
+
+    private void cleanup() {
+        try {
+            final var before = Instant.now().minus(props.retention());
+            final var deleted = transaction.execute(_ -> repo.deletePublishedBefore(before));
+            log.debug("cleanup: {} veroeffentlichte Eintraege geloescht", deleted);
+        } catch (final RuntimeException ex) {
+            log.warn("cleanup: {}", ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyOutbox;
+import com.acme.faculty.repository.SequenceValues;
+import com.acme.faculty.service.FacultyChangedEvent.ChangeType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Schreibt für jede neu angelegte oder aktualisierte Fakultät einen Eintrag in {@code faculty_outbox}, und zwar in
+ * derselben Transaktion wie FacultyWriteService. Die Einträge werden erst unmittelbar vor dem Commit geschrieben:
+ * nach einem flush() steht die Versionsnummer nach dem Update fest. Mit "app.outbox.enabled: false" werden keine
+ * Einträge geschrieben.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class FacultyOutboxWriter {
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final SequenceValues sequenceValues;
+    private final OutboxProps props;
+
+    @EventListener
+    void onFacultyChanged(final FacultyChangedEvent event) {
+        if (!props.enabled()) {
+            return;
+        }
+        final var faculty = event.faculty();
+        // Dekan und Kurse jetzt kopieren: bei Bulk-Operationen ist die Fakultät vor dem Commit nicht mehr verwaltet
+        final String payload;
+        try {
+            payload = objectMapper.writeValueAsString(CatalogEntry.of(faculty).summary());
+        } catch (final JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+        log.trace("onFacultyChanged: type={}, id={}", event.type(), faculty.getId());
+        pending().add(new Pending(faculty, event.type(), payload));
+    }
+
+    private List<Pending> pending() {
+        @SuppressWarnings("unchecked")
+        final var current = (List<Pending>) TransactionSynchronizationManager.getResource(this);
+        if (current != null) {
+            return current;
+        }
+        final var pending = new ArrayList<Pending>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                write(pending);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(FacultyOutboxWriter.this);
+            }
+        });
+        return pending;
+    }
+
+    private void write(final List<Pending> pending) {
+        entityManager.flush();
+        // erst nach flush(): die IDs einer Fakultaet sind dann in der Reihenfolge ihrer Commits aufsteigend
+        final var ids = sequenceValues.next(FacultyOutbox.SEQUENCE, pending.size());
+        final var now = Instant.now();
+        for (var i = 0; i < pending.size(); i++) {
+            final var entry = pending.get(i);
+            final var faculty = entry.faculty();
+            final var outbox = new FacultyOutbox(
+                ids.get(i),
+                faculty.getId(),
+                faculty.getVersion(),
+                entry.type().name(),
+                entry.payload(),
+                now,
+                0,
+                null,
+                null,
+                null
+            );
+            entityManager.persist(outbox);
+        }
+        log.debug("write: {} Eintraege", pending.size());
+    }
+
+    private record Pending(Faculty faculty, ChangeType type, String payload) {
+    }
+}
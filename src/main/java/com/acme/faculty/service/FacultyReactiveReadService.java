@@ -0,0 +1,117 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.CourseRow;
+import com.acme.faculty.entity.DeanRow;
+import com.acme.faculty.entity.FacultyRow;
+import com.acme.faculty.repository.CourseReactiveRepository;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanReactiveRepository;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultyReactiveRepository;
+import com.acme.faculty.repository.FacultySummary;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reaktive Variante von {@linkplain FacultyReadService} für die Suche mit R2DBC, um z.B. die Latenz bei sehr vielen
+ * gleichzeitigen Verbindungen mit dem blockierenden Zugriff über JPA zu vergleichen. Die Fakultäten werden in
+ * Blöcken gelesen; pro Block werden Dekane und Kurse mit je einer Query nachgeladen, so dass der Subscriber über
+ * Backpressure steuert, wie viel gelesen wird.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class FacultyReactiveReadService {
+    private static final Set<String> SUPPORTED_CRITERIA = Set.of("name", "dean", "course");
+    private static final int BATCH_SIZE = 64;
+
+    private final FacultyReactiveRepository repo;
+    private final DeanReactiveRepository deanRepo;
+    private final CourseReactiveRepository courseRepo;
+
+    /**
+     * Fakultäten mit Keyset-Pagination über Name und ID suchen.
+     *
+     * @param searchCriteria Die Suchkriterien "name", "dean" und "course"
+     * @param position Position hinter der letzten Fakultät der vorherigen Seite oder die initiale Position
+     * @param limit Maximale Anzahl an Fakultäten oder null für alle
+     * @return Die gefundenen Fakultäten mit Dekan und Kursen sortiert nach Name und ID
+     * @throws NotFoundException falls die Suchkriterien ungültig sind
+     */
+    public @NonNull Flux<FacultySummary> find(
+        @NonNull final Map<String, List<String>> searchCriteria,
+        @NonNull final KeysetScrollPosition position,
+        @Nullable final Integer limit
+    ) {
+        log.debug("find: searchCriteria={}, position={}, limit={}", searchCriteria, position, limit);
+        final var invalid = searchCriteria.entrySet()
+            .stream()
+            .anyMatch(entry -> !SUPPORTED_CRITERIA.contains(entry.getKey()) || entry.getValue().size() != 1);
+        if (invalid) {
+            throw new NotFoundException(searchCriteria);
+        }
+
+        final var keys = position.getKeys();
+        return repo.findPage(
+                value(searchCriteria, "name"),
+                value(searchCriteria, "dean"),
+                value(searchCriteria, "course"),
+                (String) keys.get("name"),
+                (UUID) keys.get("id"),
+                limit
+            )
+            .buffer(BATCH_SIZE)
+            .concatMap(this::withDeanAndCourses, 1);
+    }
+
+    private Flux<FacultySummary> withDeanAndCourses(final List<FacultyRow> faculties) {
+        final var ids = faculties.stream().map(FacultyRow::id).toList();
+        final var deanIds = faculties.stream().map(FacultyRow::deanId).distinct().toList();
+        final Mono<Map<UUID, DeanRow>> deans = deanRepo.findAllById(deanIds).collectMap(DeanRow::id);
+        final Mono<Map<UUID, Collection<CourseRow>>> courses = courseRepo
+            .findByFacultyIdInOrderByFacultyIdAscIdxAsc(ids)
+            .collectMultimap(CourseRow::facultyId);
+        return Mono.zip(deans, courses)
+            .flatMapIterable(tuple -> faculties.stream()
+                .map(faculty -> toSummary(faculty, tuple.getT1(), tuple.getT2()))
+                .toList());
+    }
+
+    private static FacultySummary toSummary(
+        final FacultyRow faculty,
+        final Map<UUID, DeanRow> deans,
+        final Map<UUID, Collection<CourseRow>> courses
+    ) {
+        final var dean = deans.get(faculty.deanId());
+        final var courseSummaries = courses.getOrDefault(faculty.id(), List.of())
+            .stream()
+            .map(course -> new CourseSummary(faculty.id(), course.id(), course.name()))
+            .toList();
+        return new FacultySummary(
+            faculty.id(),
+            faculty.name(),
+            new DeanSummary(dean.id(), dean.name(), dean.email()),
+            courseSummaries
+        );
+    }
+
+    private static @Nullable String value(final Map<String, List<String>> searchCriteria, final String key) {
+        final var values = searchCriteria.get(key);
+        return values == null ? null : values.getFirst();
+    }
+}
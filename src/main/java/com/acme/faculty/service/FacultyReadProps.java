@@ -0,0 +1,18 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.repository.ReadModel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.read.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param model Datenquelle für die seitenweise Suche
+ */
+@ConfigurationProperties(prefix = "app.read")
+public record FacultyReadProps(
+    @DefaultValue("TABLES")
+    ReadModel model
+) {
+}
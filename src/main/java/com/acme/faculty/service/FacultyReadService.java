@@ -1,23 +1,49 @@
 package com.acme.faculty.service;
 
 import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyView;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
 import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.repository.FacultyViewRepository;
+import com.acme.faculty.repository.FetchStrategy;
 import com.acme.faculty.repository.SpecificationBuilder;
-import com.acme.faculty.security.Rolle;
+import com.acme.faculty.security.FacultyPrincipal;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import static com.acme.faculty.entity.Faculty.COURSES_BATCH_SIZE;
+import static com.acme.faculty.repository.FetchStrategy.BATCH;
+import static com.acme.faculty.repository.FetchStrategy.GRAPH;
+import static com.acme.faculty.repository.ReadModel.VIEW;
 import static com.acme.faculty.security.Rolle.ADMIN;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.annotation.Propagation.SUPPORTS;
 
 /**
  * Anwendungslogik für Faculty.
@@ -30,78 +56,122 @@ import static com.acme.faculty.security.Rolle.ADMIN;
 @RequiredArgsConstructor
 @Slf4j
 public class FacultyReadService {
+    /**
+     * Sortierung für Keyset-Pagination: der Name ist nicht eindeutig, deshalb zusätzlich die ID.
+     */
+    public static final Sort KEYSET_SORT = Sort.by("name", "id");
+
+    /**
+     * Schlüssel in einer Position für Keyset-Pagination, falls die vorherige Seite aus dem Katalog im Hauptspeicher
+     * stammt. Der Katalog sortiert die Namen nicht mit der Collation der DB, deshalb werden die Folgeseiten ebenfalls
+     * aus dem Katalog ermittelt.
+     */
+    public static final String CATALOG_KEY = "catalog";
+
     private final FacultyRepository repo;
+    private final FacultyViewRepository viewRepo;
     private final SpecificationBuilder specificationBuilder;
+    private final EntityManager entityManager;
+    private final VersionIndex versionIndex;
+    private final FacultyReadProps props;
+    private final FacultyCatalog catalog;
+    private final PlatformTransactionManager transactionManager;
 
     /**
-     * Sucht eine Fakultät anhand ihrer ID.
+     * Sucht eine Fakultät anhand ihrer ID, falls möglich im Katalog im Hauptspeicher.
      *
      * @param id Die ID der gesuchten Fakultät
-     * @param username UserDetails-Objekt
+     * @param principal Benutzerkennung mit den Rollen aus dem JWT
      * @return Die gefundene Fakultät
      * @throws NotFoundException falls keine Fakultät mit der angegebenen ID gefunden wird
      * @throws AccessForbiddenException falls die erforderlichen Rollen nicht gegeben sind
      */
     @Observed(name = "find-by-id")
-    public @NonNull Faculty findById(
-        final UUID id,
-        final String username,
-        final List<Rolle> rollen,
-        final boolean fetchDeanAndCourses) {
-        log.debug("findById: id={}, username={}, rollen={}", id, username, rollen);
-        final var facultyOptional = fetchDeanAndCourses ? repo.findById(id) : repo.findByIdFetchDeanAndCourses(id);
-        final var faculty = facultyOptional.orElse(null);
-        log.trace("findById: faculty={}", faculty);
-
-        if (faculty != null && faculty.getUsername().contentEquals(username.getUsername())) {
-            return faculty;
+    @Transactional(propagation = SUPPORTS)
+    public @NonNull Faculty findById(final UUID id, final FacultyPrincipal principal) {
+        log.debug("findById: id={}, principal={}", id, principal);
+        if (!principal.hasRolle(ADMIN)) {
+            throw new AccessForbiddenException(principal.rollen());
         }
 
-        final var roles = username
-            .getAuthorities()
-            .stream()
-            .map(GrantedAuthority::getAuthority)
-            .map(str -> str.substring(Rolle.ROLE_PREFIX.length()))
-            .map(Rolle::valueOf)
-            .toList();
-
-        if (!roles.contains(ADMIN)) {
-            throw new AccessForbiddenException(roles);
-        }
-
-        if (faculty == null) {
-            throw new NotFoundException(id);
+        final var cached = catalog.findById(id);
+        if (cached.isPresent()) {
+            // Aenderungen anderer Instanzen enthaelt der Katalog erst nach reload(): nicht in den Versionsindex
+            final var faculty = cached.get().toFaculty();
+            log.debug("findById: faculty={}", faculty);
+            return faculty;
         }
 
+        final var faculty = readOnly(() -> repo.findById(id)).orElseThrow(() -> new NotFoundException(id));
+        versionIndex.put(id, faculty.getVersion());
         log.debug("findById: faculty={}", faculty);
         return faculty;
     }
 
     /**
-     * Fakultät anhand von Suchkriterien als Collection suchen.
+     * Anhand des Versionsindex prüfen, ob eine Versionsnummer für eine Fakultät aktuell ist, ohne auf die DB
+     * zuzugreifen. Wie bei findById wird die Rolle ADMIN vorausgesetzt.
+     *
+     * @param id Die ID der Fakultät
+     * @param version Die Versionsnummer aus If-None-Match
+     * @param principal Benutzerkennung mit den Rollen aus dem JWT
+     * @return true, falls die Versionsnummer laut Versionsindex aktuell ist; false, falls die Fakultät geladen werden
+     *      muss
+     */
+    @Transactional(propagation = SUPPORTS)
+    public boolean isCurrentVersion(final UUID id, final int version, final FacultyPrincipal principal) {
+        if (!principal.hasRolle(ADMIN)) {
+            return false;
+        }
+        final var isCurrent = versionIndex.get(id).filter(current -> current == version).isPresent();
+        log.trace("isCurrentVersion: id={}, version={}, isCurrent={}", id, version, isCurrent);
+        return isCurrent;
+    }
+
+    /**
+     * Fakultät anhand von Suchkriterien als Collection suchen. Die Fakultäten werden mit ihrem Dekan geladen und die
+     * Kurse anschließend in Batches, siehe {@linkplain FetchStrategy#BATCH}.
      *
      * @param searchCriteria Die Suchkriterien
      * @return Die gefundene Fakultät oder eine leere Collection
      * @throws NotFoundException falls keine Fakultät gefunden wurden
      */
-    @SuppressWarnings("ReturnCount")
     public @NonNull Collection<Faculty> find(@NonNull final Map<String, List<String>> searchCriteria) {
-        log.debug("find: searchCriteria={}", searchCriteria);
+        return find(searchCriteria, BATCH);
+    }
+
+    /**
+     * Fakultät anhand von Suchkriterien als Collection suchen, z.B. um in FacultyReadBenchmark die Strategien zu
+     * vergleichen.
+     *
+     * @param searchCriteria Die Suchkriterien
+     * @param fetchStrategy Strategie für das Laden von Dekan und Kursen
+     * @return Die gefundene Fakultät oder eine leere Collection
+     * @throws NotFoundException falls keine Fakultät gefunden wurden
+     */
+    @SuppressWarnings("ReturnCount")
+    @NonNull Collection<Faculty> find(
+        @NonNull final Map<String, List<String>> searchCriteria,
+        @NonNull final FetchStrategy fetchStrategy
+    ) {
+        log.debug("find: searchCriteria={}, fetchStrategy={}", searchCriteria, fetchStrategy);
         if (searchCriteria.isEmpty()) {
-            return repo.findAll();
+            return fetchStrategy == GRAPH ? repo.findAll() : initializeCourses(repo.findAllFetchDean());
         }
 
         if (searchCriteria.size() == 1) {
             final var names = searchCriteria.get("name");
             if (names != null && names.size() == 1) {
-                return findByName(names.get(0), searchCriteria);
+                return findByName(names.get(0), searchCriteria, fetchStrategy);
             }
         }
 
         final var specification = specificationBuilder
             .build(searchCriteria)
             .orElseThrow(() -> new NotFoundException(searchCriteria));
-        final var faculties = repo.findAll(specification);
+        final var faculties = fetchStrategy == GRAPH
+            ? repo.findAll(specification)
+            : initializeCourses(repo.findBy(specification, query -> query.project("dean").all()));
 
         if (faculties.isEmpty()) {
             throw new NotFoundException(searchCriteria);
@@ -111,9 +181,276 @@ public class FacultyReadService {
         return faculties;
     }
 
-    private @NonNull Collection<Faculty> findByName(final String name, final Map<String, List<String>> searchCriteria) {
+    /**
+     * Fakultäten anhand von Suchkriterien seitenweise mit Keyset-Pagination über Name und ID suchen. Pro Aufruf werden
+     * höchstens limit Fakultäten geladen, unabhängig von der Gesamtzahl der Treffer. Dekan und Kurse werden als
+     * Projektion gelesen, d.h. nur die Spalten für die Antwort und ohne Entities im Persistence Context. Mit
+     * "app.read.model: VIEW" wird stattdessen die Tabelle {@code faculty_view} ohne Joins gelesen, sofern die
+     * Suchkriterien darin abgebildet werden können. Ist der Katalog im Hauptspeicher aktiviert und geladen, wird die
+     * Seite ohne DB-Zugriff daraus ermittelt. Deshalb wird eine Transaktion erst für den Zugriff auf die DB begonnen,
+     * und zwar eine gemeinsame für alle Queries der Seite. Fakultäten, die zwischen den Queries gelöscht wurden, fehlen
+     * in der Seite.
+     *
+     * @param searchCriteria Die Suchkriterien
+     * @param position Position hinter der letzten Fakultät der vorherigen Seite oder die initiale Position
+     * @param limit Maximale Anzahl an Fakultäten in der Seite
+     * @return Die gefundenen Fakultäten einschließlich Dekan und Kursen
+     * @throws NotFoundException falls die Suchkriterien ungültig sind oder keine Fakultät gefunden wurde
+     */
+    @Transactional(propagation = SUPPORTS)
+    public @NonNull Window<FacultySummary> find(
+        @NonNull final Map<String, List<String>> searchCriteria,
+        @NonNull final KeysetScrollPosition position,
+        final int limit
+    ) {
+        log.debug("find: searchCriteria={}, position={}, limit={}", searchCriteria, position, limit);
+        final var fromCatalog = position.getKeys().containsKey(CATALOG_KEY);
+        // Folgeseite aus derselben Quelle wie die vorherige Seite, sonst fehlen Fakultaeten oder sind doppelt
+        if (position.isInitial() || fromCatalog) {
+            final var cached = catalog.find(searchCriteria, position, limit);
+            if (cached.isPresent()) {
+                if (cached.get().isEmpty() && position.isInitial()) {
+                    throw new NotFoundException(searchCriteria);
+                }
+                return cached.get();
+            }
+        }
+        final var dbPosition = fromCatalog ? withoutCatalogKey(position) : position;
+        // alle Queries einer Seite in derselben Transaktion und damit auf derselben DB bzw. demselben Replikat
+        return readOnly(() -> findInDb(searchCriteria, dbPosition, limit));
+    }
+
+    private Window<FacultySummary> findInDb(
+        final Map<String, List<String>> searchCriteria,
+        final KeysetScrollPosition position,
+        final int limit
+    ) {
+        if (props.model() == VIEW) {
+            final var viewSpecification = specificationBuilder.buildView(searchCriteria);
+            if (viewSpecification.isPresent()) {
+                return findInView(searchCriteria, viewSpecification.get(), position, limit);
+            }
+        }
+
+        // 1. Schritt: nur die Fakultäten der Seite ohne Fetch Join, damit LIMIT in der DB ausgewertet wird
+        final var window = scroll(searchCriteria, position, limit);
+        if (window.isEmpty()) {
+            return Window.from(List.of(), window::positionAt);
+        }
+
+        // 2. Schritt: Dekan und Kurse nur für die Fakultäten der Seite als Projektion nachladen
+        final var ids = window.map(Faculty::getId).toList();
+        final var summaries = repo.findSummaries(ids)
+            .stream()
+            .collect(toMap(FacultySummary::id, Function.identity()));
+        final var courses = repo.findCourseSummaries(ids)
+            .stream()
+            .collect(groupingBy(CourseSummary::facultyId));
+        final var faculties = new ArrayList<FacultySummary>(ids.size());
+        final var positions = new ArrayList<ScrollPosition>(ids.size());
+        for (var i = 0; i < ids.size(); i++) {
+            final var id = ids.get(i);
+            final var summary = summaries.get(id);
+            if (summary == null) {
+                // zwischen den beiden Queries geloescht, z.B. bei READ COMMITTED
+                continue;
+            }
+            faculties.add(summary.withCourses(courses.getOrDefault(id, List.of())));
+            positions.add(window.positionAt(i));
+        }
+        if (faculties.isEmpty() && window.hasNext()) {
+            // alle Fakultaeten der Seite wurden geloescht: mit der naechsten Seite fortsetzen
+            return findInDb(searchCriteria, (KeysetScrollPosition) window.positionAt(window.size() - 1), limit);
+        }
+        log.debug("find: {} Fakultaeten, hasNext={}", faculties.size(), window.hasNext());
+        return Window.from(faculties, positions::get, window.hasNext());
+    }
+
+    private <T> T readOnly(final Supplier<T> query) {
+        // nicht mit @Transactional: ein Treffer im Katalog soll weder eine Transaktion beginnen noch eine Connection
+        final var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        return transaction.execute(_ -> query.get());
+    }
+
+    private static KeysetScrollPosition withoutCatalogKey(final KeysetScrollPosition position) {
+        // der Katalog ist z.B. nach einem Neustart noch nicht geladen: in der DB ab derselben Position fortsetzen
+        final var keys = new HashMap<>(position.getKeys());
+        keys.remove(CATALOG_KEY);
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Fakultäten ohne Dekan und Kurse seitenweise mit Keyset-Pagination suchen, z.B. für GraphQL. Dekan und Kurse
+     * werden anschließend mit {@linkplain #findDeans} und {@linkplain #findCourses} für alle Fakultäten gemeinsam
+     * geladen, d.h. mit einer Query pro Ebene.
+     *
+     * @param searchCriteria Die Suchkriterien
+     * @param position Position hinter der letzten Fakultät der vorherigen Seite oder die initiale Position
+     * @param limit Maximale Anzahl an Fakultäten in der Seite
+     * @param principal Benutzerkennung mit den Rollen aus dem JWT
+     * @return Die gefundenen Fakultäten mit ID, Version und Name
+     * @throws NotFoundException falls die Suchkriterien ungültig sind oder keine Fakultät gefunden wurde
+     * @throws AccessForbiddenException falls die erforderlichen Rollen nicht gegeben sind
+     */
+    @Transactional(propagation = SUPPORTS)
+    public @NonNull Window<Faculty> findFaculties(
+        @NonNull final Map<String, List<String>> searchCriteria,
+        @NonNull final KeysetScrollPosition position,
+        final int limit,
+        @NonNull final FacultyPrincipal principal
+    ) {
+        log.debug("findFaculties: searchCriteria={}, position={}, limit={}", searchCriteria, position, limit);
+        if (!principal.hasRolle(ADMIN)) {
+            throw new AccessForbiddenException(principal.rollen());
+        }
+        return scroll(searchCriteria, position, limit);
+    }
+
+    /**
+     * Die Dekane zu Fakultäten mit einer Query laden.
+     *
+     * @param facultyIds IDs der Fakultäten
+     * @return Die Dekane zu den IDs der Fakultäten
+     */
+    @Transactional(propagation = SUPPORTS)
+    public @NonNull Map<UUID, DeanSummary> findDeans(@NonNull final Collection<UUID> facultyIds) {
+        log.debug("findDeans: {} Fakultaeten", facultyIds.size());
+        return repo.findSummaries(facultyIds)
+            .stream()
+            .collect(toMap(FacultySummary::id, FacultySummary::dean));
+    }
+
+    /**
+     * Die Kurse zu Fakultäten mit einer Query laden.
+     *
+     * @param facultyIds IDs der Fakultäten
+     * @return Die Kurse in der gespeicherten Reihenfolge zu den IDs der Fakultäten
+     */
+    @Transactional(propagation = SUPPORTS)
+    public @NonNull Map<UUID, List<CourseSummary>> findCourses(@NonNull final Collection<UUID> facultyIds) {
+        log.debug("findCourses: {} Fakultaeten", facultyIds.size());
+        return repo.findCourseSummaries(facultyIds)
+            .stream()
+            .collect(groupingBy(CourseSummary::facultyId));
+    }
+
+    private Window<Faculty> scroll(
+        final Map<String, List<String>> searchCriteria,
+        final KeysetScrollPosition position,
+        final int limit
+    ) {
+        final Specification<Faculty> specification = searchCriteria.isEmpty()
+            ? Specification.where(null)
+            : specificationBuilder
+                .build(searchCriteria)
+                .orElseThrow(() -> new NotFoundException(searchCriteria));
+        final var window = repo.findBy(
+            specification,
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position)
+        );
+        if (window.isEmpty() && position.isInitial()) {
+            throw new NotFoundException(searchCriteria);
+        }
+        return window;
+    }
+
+    private Window<FacultySummary> findInView(
+        final Map<String, List<String>> searchCriteria,
+        final Specification<FacultyView> specification,
+        final KeysetScrollPosition position,
+        final int limit
+    ) {
+        // eine Query ohne Joins: Dekan und Kurse stehen in derselben Zeile
+        final var window = viewRepo.findBy(
+            specification,
+            query -> query.sortBy(KEYSET_SORT).limit(limit).scroll(position)
+        );
+        if (window.isEmpty() && position.isInitial()) {
+            throw new NotFoundException(searchCriteria);
+        }
+        log.debug("findInView: {} Fakultaeten, hasNext={}", window.size(), window.hasNext());
+        return window.map(FacultyReadService::toSummary);
+    }
+
+    private static FacultySummary toSummary(final FacultyView view) {
+        final var courses = view.getCourses()
+            .stream()
+            .map(course -> new CourseSummary(view.getId(), course.id(), course.name()))
+            .toList();
+        final var dean = new DeanSummary(view.getDeanId(), view.getDeanName(), view.getDeanEmail());
+        return new FacultySummary(view.getId(), view.getName(), dean, courses);
+    }
+
+    /**
+     * Fakultäten anhand von Suchkriterien über einen JDBC-Cursor lesen und einzeln an einen Consumer übergeben, z.B.
+     * für einen Export als NDJSON. Die Kurse werden blockweise für jeweils {@value Faculty#COURSES_BATCH_SIZE}
+     * Fakultäten mit einer Query nachgeladen. Nach der Verarbeitung wird jede Fakultät mit Dekan und Kursen vom
+     * Persistence Context abgekoppelt, so dass der Speicherbedarf unabhängig von der Anzahl der Fakultäten ist.
+     *
+     * @param searchCriteria Die Suchkriterien oder eine leere Map für alle Fakultäten
+     * @param consumer Verarbeitung einer einzelnen Fakultät
+     * @throws NotFoundException falls die Suchkriterien ungültig sind
+     */
+    public void stream(
+        @NonNull final Map<String, List<String>> searchCriteria,
+        @NonNull final Consumer<? super Faculty> consumer
+    ) {
+        log.debug("stream: searchCriteria={}", searchCriteria);
+        try (var faculties = openStream(searchCriteria)) {
+            final var iterator = faculties.iterator();
+            final var chunk = new ArrayList<Faculty>(COURSES_BATCH_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == COURSES_BATCH_SIZE || !iterator.hasNext()) {
+                    // wegen @BatchSize laedt Hibernate die Kurse aller Fakultaeten des Blocks mit einer Query
+                    Hibernate.initialize(chunk.getFirst().getCourses());
+                    chunk.forEach(faculty -> {
+                        consumer.accept(faculty);
+                        detach(faculty);
+                    });
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private Stream<Faculty> openStream(final Map<String, List<String>> searchCriteria) {
+        if (searchCriteria.isEmpty()) {
+            return repo.streamAll();
+        }
+        // die Suchkriterien wie bei find() pruefen: unbekannte Kriterien oder mehrere Werte sind ungueltig
+        specificationBuilder
+            .build(searchCriteria)
+            .orElseThrow(() -> new NotFoundException(searchCriteria));
+        return repo.streamBy(
+            criterion(searchCriteria, "name"),
+            criterion(searchCriteria, "dean"),
+            criterion(searchCriteria, "course")
+        );
+    }
+
+    private static String criterion(final Map<String, List<String>> searchCriteria, final String key) {
+        final var values = searchCriteria.get(key);
+        return values == null ? null : values.getFirst();
+    }
+
+    private void detach(final Faculty faculty) {
+        // Faculty kaskadiert DETACH nicht, deshalb Dekan und Kurse explizit abkoppeln
+        entityManager.detach(faculty.getDean());
+        faculty.getCourses().forEach(entityManager::detach);
+        entityManager.detach(faculty);
+    }
+
+    private @NonNull Collection<Faculty> findByName(
+        final String name,
+        final Map<String, List<String>> searchCriteria,
+        final FetchStrategy fetchStrategy
+    ) {
         log.trace("findByName: {}", name);
-        final var faculties = repo.findByName(name);
+        final var faculties = fetchStrategy == GRAPH
+            ? repo.findByName(name)
+            : initializeCourses(repo.findByNameFetchDean(name));
 
         if (faculties.isEmpty()) {
             throw new NotFoundException(searchCriteria);
@@ -122,4 +459,10 @@ public class FacultyReadService {
         log.debug("findByName: {}", faculties);
         return faculties;
     }
+
+    private List<Faculty> initializeCourses(final List<Faculty> faculties) {
+        // wegen @BatchSize laedt Hibernate beim ersten Zugriff die Kurse der naechsten Fakultaeten gleich mit
+        faculties.forEach(faculty -> Hibernate.initialize(faculty.getCourses()));
+        return faculties;
+    }
 }
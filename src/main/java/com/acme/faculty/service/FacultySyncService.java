@@ -0,0 +1,110 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyTombstone;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.repository.FacultyTombstoneRepository;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.acme.faculty.service.FacultyDelta.Type.DELETE;
+import static com.acme.faculty.service.FacultyDelta.Type.UPSERT;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.annotation.Isolation.REPEATABLE_READ;
+
+/**
+ * Synchronisation mit Deltas: statt des gesamten Katalogs nur die Fakultäten, die seit einer Position in der
+ * Änderungsfolge neu angelegt, aktualisiert oder gelöscht wurden. Die Position vergibt FacultyWriteService aus der
+ * Sequenz {@code faculty_change_seq} in der Reihenfolge der Commits, so dass keine spätere Änderung eine kleinere
+ * Position als das Token "next" erhält; für gelöschte Fakultäten bleibt ein Tombstone erhalten.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class FacultySyncService {
+    private final FacultyRepository repo;
+    private final FacultyTombstoneRepository tombstoneRepo;
+
+    /**
+     * Änderungen nach einer Position in der Änderungsfolge lesen.
+     *
+     * @param since Position aus dem Token "next" des vorherigen Aufrufs oder 0 für den gesamten Bestand
+     * @param limit Maximale Anzahl an Änderungen
+     * @return Die Änderungen mit dem Token für den nächsten Aufruf
+     */
+    @Transactional(readOnly = true, isolation = REPEATABLE_READ)
+    public @NonNull FacultyDeltas changesSince(final long since, final int limit) {
+        log.debug("changesSince: since={}, limit={}", since, limit);
+        // alle Queries mit demselben Snapshot: sonst könnte eine Änderung, die zwischen den Queries committet, eine
+        // frühere Änderung überholen, die in der ersten Query noch fehlte
+        final var faculties = repo.findChangedSince(since, Limit.of(limit + 1));
+        final var tombstones = tombstoneRepo.findByChangeSeqGreaterThanOrderByChangeSeq(since, Limit.of(limit + 1));
+
+        // beide Listen nach der Änderungsfolge mischen
+        final var candidates = new ArrayList<Candidate>(faculties.size() + tombstones.size());
+        faculties.forEach(faculty -> candidates.add(Candidate.of(faculty)));
+        tombstones.forEach(tombstone -> candidates.add(Candidate.of(tombstone)));
+        candidates.sort(Comparator.comparingLong(Candidate::changeSeq));
+        final var selected = candidates.stream().limit(limit).toList();
+
+        final var ids = selected.stream()
+            .filter(candidate -> candidate.faculty() != null)
+            .map(candidate -> candidate.faculty().getId())
+            .toList();
+        final var summaries = ids.isEmpty()
+            ? Map.<UUID, FacultySummary>of()
+            : repo.findSummaries(ids).stream().collect(toMap(FacultySummary::id, Function.identity()));
+        final var courses = ids.isEmpty()
+            ? Map.<UUID, List<CourseSummary>>of()
+            : repo.findCourseSummaries(ids).stream().collect(groupingBy(CourseSummary::facultyId));
+
+        final var deltas = new ArrayList<FacultyDelta>(selected.size());
+        selected.forEach(candidate -> {
+            final var faculty = candidate.faculty();
+            if (faculty == null) {
+                deltas.add(new FacultyDelta(candidate.changeSeq(), candidate.tombstone().getId(), DELETE, null, null));
+                return;
+            }
+            final var id = faculty.getId();
+            final var summary = summaries.get(id);
+            if (summary == null) {
+                // zwischen den Queries gelöscht: der Tombstone hat eine größere Position und folgt später
+                log.debug("changesSince: id={} inzwischen geloescht", id);
+                return;
+            }
+            final var current = summary.withCourses(courses.getOrDefault(id, List.of()));
+            deltas.add(new FacultyDelta(candidate.changeSeq(), id, UPSERT, faculty.getVersion(), current));
+        });
+        // nach einer übersprungenen Fakultät nicht erneut ab derselben Position lesen
+        final var next = selected.isEmpty() ? since : selected.getLast().changeSeq();
+        final var hasMore = selected.size() == limit && candidates.size() > limit;
+        log.debug("changesSince: {} Aenderungen, next={}, hasMore={}", deltas.size(), next, hasMore);
+        return new FacultyDeltas(deltas, String.valueOf(next), hasMore);
+    }
+
+    private record Candidate(long changeSeq, Faculty faculty, FacultyTombstone tombstone) {
+        static Candidate of(final Faculty faculty) {
+            return new Candidate(faculty.getChangeSeq(), faculty, null);
+        }
+
+        static Candidate of(final FacultyTombstone tombstone) {
+            return new Candidate(tombstone.getChangeSeq(), null, tombstone);
+        }
+    }
+}
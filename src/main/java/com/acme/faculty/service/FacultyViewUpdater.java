@@ -0,0 +1,48 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.FacultyView;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.CREATED;
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.DELETED;
+
+/**
+ * Aktualisiert die denormalisierte Tabelle {@code faculty_view}. Im Gegensatz zu VersionIndex wird das Event
+ * innerhalb der Transaktion von FacultyWriteService verarbeitet, so dass Fakultät und Lesesicht gemeinsam
+ * geschrieben werden oder gar nicht. Die Bean existiert nur mit "app.read.model: VIEW", weil die Tabelle sonst nicht
+ * gelesen wird. Wird das Lesemodell nachträglich auf VIEW umgestellt, muss {@code faculty_view} vorher neu befüllt
+ * werden, z.B. mit dem INSERT aus postgresql/V1.3__FacultyView.sql.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.read", name = "model", havingValue = "VIEW")
+@RequiredArgsConstructor
+@Slf4j
+class FacultyViewUpdater {
+    private final EntityManager entityManager;
+
+    @EventListener
+    void onFacultyChanged(final FacultyChangedEvent event) {
+        if (event.type() == DELETED) {
+            final var view = entityManager.find(FacultyView.class, event.faculty().getId());
+            log.trace("onFacultyChanged: type={}, view={}", event.type(), view);
+            if (view != null) {
+                entityManager.remove(view);
+            }
+            return;
+        }
+        final var view = FacultyView.of(event.faculty());
+        log.trace("onFacultyChanged: type={}, view={}", event.type(), view);
+        if (event.type() == CREATED) {
+            entityManager.persist(view);
+        } else {
+            entityManager.merge(view);
+        }
+    }
+}
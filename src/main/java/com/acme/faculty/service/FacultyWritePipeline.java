@@ -0,0 +1,183 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Asynchrone Verarbeitung von Schreibaufträgen für Fakultäten. Aufträge werden in einer begrenzten Queue angenommen
+ * und von Virtual Threads in kleinen Transaktionen mit FacultyWriteService geschrieben. Schlägt eine Transaktion
+ * fehl, werden ihre Aufträge einzeln wiederholt, damit ein fehlerhafter Auftrag die übrigen nicht verhindert. Für
+ * jeden Versuch werden die Entities neu erzeugt, weil sie nach einem Rollback bereits IDs und Versionsnummern tragen.
+ * Beim Herunterfahren werden die angenommenen Aufträge noch geschrieben.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Service
+@Slf4j
+public class FacultyWritePipeline {
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final FacultyWriteService writeService;
+    private final TransactionTemplate transactionTemplate;
+    private final WritePipelineProps props;
+    private final BlockingQueue<Task> queue;
+    private final ConcurrentMap<UUID, WriteStatus> statuses = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    FacultyWritePipeline(
+        final FacultyWriteService writeService,
+        final TransactionTemplate transactionTemplate,
+        final WritePipelineProps props,
+        final MeterRegistry meterRegistry
+    ) {
+        this.writeService = writeService;
+        this.transactionTemplate = transactionTemplate;
+        this.props = props;
+        queue = new ArrayBlockingQueue<>(props.queueCapacity());
+        Gauge.builder("faculty.write.queue", queue, Collection::size)
+            .description("Angenommene, noch nicht verarbeitete Schreibauftraege")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        for (var i = 0; i < props.workers(); i++) {
+            workers.add(Thread.ofVirtual().name("faculty-write-", i).start(this::run));
+        }
+        log.debug("start: {} Worker, queueCapacity={}", props.workers(), props.queueCapacity());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        // kein Interrupt: ein Virtual Thread, der in Socket-I/O unterbrochen wird, schliesst die JDBC-Verbindung
+        running = false;
+        for (final var worker : workers) {
+            if (!worker.join(props.shutdownTimeout())) {
+                log.warn("stop: {} nicht beendet, {} Auftraege verworfen", worker.getName(), queue.size());
+                worker.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Einen Auftrag zum Neuanlegen einer Fakultät annehmen.
+     *
+     * @param faculty Erzeugt für jeden Versuch eine neue, noch nicht gespeicherte Fakultät
+     * @return Der Status des angenommenen Auftrags
+     * @throws WritePipelineFullException falls die Queue voll ist
+     */
+    public WriteStatus submitCreate(final Supplier<Faculty> faculty) {
+        return submit(service -> service.create(faculty.get()));
+    }
+
+    /**
+     * Einen Auftrag zum Aktualisieren einer Fakultät annehmen.
+     *
+     * @param id ID der Fakultät
+     * @param faculty Erzeugt für jeden Versuch die neuen Daten der Fakultät
+     * @param version Die erwartete Versionsnummer
+     * @return Der Status des angenommenen Auftrags
+     * @throws WritePipelineFullException falls die Queue voll ist
+     */
+    public WriteStatus submitUpdate(final UUID id, final Supplier<Faculty> faculty, final int version) {
+        return submit(service -> service.update(id, faculty.get(), version));
+    }
+
+    /**
+     * Den Status eines Schreibauftrags ermitteln.
+     *
+     * @param id ID des Schreibauftrags
+     * @return Der Status oder ein leeres Optional, falls der Auftrag unbekannt oder zu lange abgeschlossen ist
+     */
+    public Optional<WriteStatus> findStatus(final UUID id) {
+        return Optional.ofNullable(statuses.get(id));
+    }
+
+    private WriteStatus submit(final Function<FacultyWriteService, Faculty> write) {
+        final var status = WriteStatus.pending(UUID.randomUUID());
+        statuses.put(status.id(), status);
+        if (!queue.offer(new Task(status.id(), write))) {
+            statuses.remove(status.id());
+            throw new WritePipelineFullException(props.queueCapacity());
+        }
+        log.trace("submit: id={}", status.id());
+        return status;
+    }
+
+    private void run() {
+        final var batch = new ArrayList<Task>(props.batchSize());
+        // beim Herunterfahren die bereits angenommenen Auftraege noch abarbeiten
+        while (running || !queue.isEmpty()) {
+            final Task task;
+            try {
+                task = queue.poll(POLL_TIMEOUT_MILLIS, MILLISECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+            batch.add(task);
+            queue.drainTo(batch, props.batchSize() - 1);
+            process(batch);
+            batch.clear();
+            evictCompleted();
+        }
+    }
+
+    private void process(final List<Task> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            final var faculties = transactionTemplate.execute(_ -> batch.stream()
+                .map(task -> task.write().apply(writeService))
+                .toList());
+            for (var i = 0; i < batch.size(); i++) {
+                final var faculty = faculties.get(i);
+                statuses.computeIfPresent(batch.get(i).id(), (_, status) ->
+                    status.done(faculty.getId(), faculty.getVersion()));
+            }
+        } catch (final RuntimeException ex) {
+            if (batch.size() > 1) {
+                log.debug("process: Transaktion mit {} Auftraegen fehlgeschlagen, einzeln wiederholen", batch.size());
+                batch.forEach(task -> process(List.of(task)));
+                return;
+            }
+            final var task = batch.getFirst();
+            log.debug("process: Auftrag {} fehlgeschlagen: {}", task.id(), ex.getMessage());
+            statuses.computeIfPresent(task.id(), (_, status) -> status.failed(ex.getMessage()));
+        }
+    }
+
+    private void evictCompleted() {
+        final var expired = Instant.now().minus(props.statusRetention());
+        statuses.values().removeIf(status -> status.completed() != null && status.completed().isBefore(expired));
+    }
+
+    // write erzeugt bei jedem Aufruf neue Entities, damit ein Auftrag nach einem Rollback wiederholt werden kann
+    private record Task(UUID id, Function<FacultyWriteService, Faculty> write) {
+    }
+}
@@ -1,15 +1,43 @@
 package com.acme.faculty.service;
 
 import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyTombstone;
+import com.acme.faculty.repository.FacultyNames;
 import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.SequenceValues;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.bytecode.enhance.VersionMismatchException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.acme.faculty.service.BulkResult.Status.DEAN_EXISTS;
+import static com.acme.faculty.service.BulkResult.Status.DUPLICATE;
+import static com.acme.faculty.service.BulkResult.Status.INVALID;
+import static com.acme.faculty.service.BulkResult.Status.NAME_EXISTS;
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.CREATED;
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.DELETED;
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.UPDATED;
 
 /**
  * Anwendungslogik für Fakultäten.
@@ -25,7 +53,23 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 @Slf4j
 public class FacultyWriteService {
+    /**
+     * Anzahl an Fakultäten, die beim Neuanlegen vieler Fakultäten in einer eigenen Transaktion geschrieben werden. Der
+     * Wert entspricht "hibernate.jdbc.batch_size" in application.yml.
+     */
+    static final int BULK_CHUNK_SIZE = 50;
+
+    /**
+     * Maximale Anzahl an Namen pro Query bei der Prüfung auf vorhandene Namen und Dekane.
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final FacultyRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final SequenceValues sequenceValues;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * Erstellt eine neue Fakultät.
@@ -49,18 +93,24 @@ public class FacultyWriteService {
             throw new DeanExistsException(faculty.getDean().getName());
         }
 
+        stamp(List.of(faculty));
         final var facultyDB = repository.save(faculty);
+        eventPublisher.publishEvent(new FacultyChangedEvent(facultyDB, CREATED));
         log.debug("create: faculty={}", facultyDB);
         return facultyDB;
     }
 
     /**
-     * Aktualisiert eine vorhandene Fakultät.
+     * Aktualisiert eine vorhandene Fakultät mit Name, Dekan und Kursen aus den neuen Daten.
      *
      * @param id      Die ID der zu aktualisierenden Fakultät.
      * @param faculty Die neuen Daten der Fakultät.
+     * @param version Die erwartete Versionsnummer aus dem Header "If-Match".
+     * @return Die aktualisierte Fakultät.
      * @throws NotFoundException             falls die Fakultät nicht gefunden wurde.
-     * @throws DeanExistsException           falls ein Dekan bereits existiert.
+     * @throws VersionOutdatedException      falls die Versionsnummer nicht aktuell ist.
+     * @throws NameExistsException           falls eine andere Fakultät den Namen bereits hat.
+     * @throws DeanExistsException           falls der Dekan bzw. seine E-Mail-Adresse einer anderen Fakultät gehört.
      */
     @Transactional
     public Faculty update(final UUID id, final Faculty faculty, final int version) {
@@ -76,12 +126,257 @@ public class FacultyWriteService {
             throw  new VersionOutdatedException(version);
         }
 
-        if (repository.isDeanExist(faculty.getDean().getName())) {
-            throw new DeanExistsException(faculty.getDean().getName());
+        final var name = faculty.getName();
+        final var dean = faculty.getDean();
+        // die eigenen Werte sind keine Konflikte, z.B. wenn nur die Kurse geändert werden
+        final var conflicts = repository.findNames(List.of(name), List.of(dean.getName()), List.of(dean.getEmail()))
+            .stream()
+            .filter(names -> !names.id().equals(id))
+            .toList();
+        if (conflicts.stream().anyMatch(names -> names.name().equals(name))) {
+            throw new NameExistsException(name);
+        }
+        if (!conflicts.isEmpty()) {
+            throw new DeanExistsException(dean.getName());
         }
 
-        facultyDb.setId(id);
+        facultyDb.setName(name);
+        facultyDb.getDean().setName(dean.getName());
+        facultyDb.getDean().setEmail(dean.getEmail());
+        facultyDb.getCourses().clear();
+        facultyDb.getCourses().addAll(faculty.getCourses());
+        stamp(List.of(facultyDb));
         facultyDb = repository.save(facultyDb);
+        eventPublisher.publishEvent(new FacultyChangedEvent(facultyDb, UPDATED));
         return facultyDb;
     }
+
+    /**
+     * Löscht eine Fakultät mit Dekan und Kursen. Für die Synchronisation mit Deltas bleibt ein Tombstone erhalten.
+     *
+     * @param id Die ID der zu löschenden Fakultät.
+     * @throws NotFoundException             falls die Fakultät nicht gefunden wurde.
+     */
+    @Transactional
+    public void delete(final UUID id) {
+        log.debug("delete: id={}", id);
+        final var faculty = repository
+            .findById(id)
+            .orElseThrow(() -> new NotFoundException(id));
+        // Event vor dem Löschen, damit Listener noch auf Dekan und Kurse zugreifen können
+        eventPublisher.publishEvent(new FacultyChangedEvent(faculty, DELETED));
+        repository.delete(faculty);
+        final var changeSeq = sequenceValues.next(Faculty.CHANGE_SEQUENCE, 1).getFirst();
+        final var tombstone = new FacultyTombstone(id, changeSeq, Instant.now());
+        entityManager.persist(tombstone);
+        pendingStamps().tombstones().add(tombstone);
+    }
+
+    /**
+     * Viele Fakultäten neu anlegen bzw. aktualisieren. Die Eindeutigkeit von Namen, Dekanen und E-Mail-Adressen der
+     * Dekane wird für alle Fakultäten gemeinsam mit einer Query geprüft und die Datensätze werden mit JDBC-Batching
+     * geschrieben. Fakultäten mit verletzten Constraints oder Konflikten werden übersprungen.
+     * <p>
+     * Jeweils {@linkplain #BULK_CHUNK_SIZE} Fakultäten werden in einer eigenen Transaktion geschrieben, damit auch ein
+     * großer Abgleich Sperren und die Position in der Änderungsfolge nur kurz hält. Scheitert ein Block, z.B. wegen
+     * eines gleichzeitig angelegten Namens, bleiben die vorherigen Blöcke gespeichert.
+     *
+     * @param faculties Die neuen Fakultäten
+     * @param upsert true, falls eine vorhandene Fakultät mit gleichem Namen aktualisiert werden soll
+     * @return Das Ergebnis für jede Fakultät in der Reihenfolge der Eingabe
+     */
+    public List<BulkResult> createAll(final List<Faculty> faculties, final boolean upsert) {
+        log.debug("createAll: {} Fakultaeten, upsert={}", faculties.size(), upsert);
+        final var results = new BulkResult[faculties.size()];
+        final var candidates = validateAll(faculties, results);
+        // in einer schreibenden Transaktion, d.h. von der primären DB und nicht von einem Replikat
+        final var existing = new TransactionTemplate(transactionManager)
+            .execute(_ -> findExisting(candidates.values()));
+        final var existingByName = existing.stream()
+            .collect(Collectors.toMap(FacultyNames::name, FacultyNames::id, (first, _) -> first));
+        final var existingByDean = existing.stream()
+            .collect(Collectors.toMap(FacultyNames::deanName, FacultyNames::id, (first, _) -> first));
+        final var existingByEmail = existing.stream()
+            .collect(Collectors.toMap(FacultyNames::deanEmail, FacultyNames::id, (first, _) -> first));
+
+        final var toCreate = new LinkedHashMap<Integer, Faculty>();
+        final var toUpdate = new LinkedHashMap<UUID, Integer>();
+        candidates.forEach((index, faculty) -> {
+            final var name = faculty.getName();
+            final var deanName = faculty.getDean().getName();
+            final var existingId = existingByName.get(name);
+            final var deanOwner = existingByDean.get(deanName);
+            final var emailOwner = existingByEmail.get(faculty.getDean().getEmail());
+            if (existingId != null && !upsert) {
+                results[index] = BulkResult.failed(index, NAME_EXISTS, new NameExistsException(name).getMessage());
+            } else if ((deanOwner != null && !deanOwner.equals(existingId))
+                || (emailOwner != null && !emailOwner.equals(existingId))) {
+                results[index] = BulkResult.failed(index, DEAN_EXISTS, new DeanExistsException(deanName).getMessage());
+            } else if (existingId == null) {
+                toCreate.put(index, faculty);
+            } else {
+                toUpdate.put(existingId, index);
+            }
+        });
+
+        insertAll(toCreate, results);
+        updateAll(toUpdate, faculties, results);
+        log.debug("createAll: created={}, updated={}", toCreate.size(), toUpdate.size());
+        return Arrays.asList(results);
+    }
+
+    private Map<Integer, Faculty> validateAll(final List<Faculty> faculties, final BulkResult[] results) {
+        final var candidates = new LinkedHashMap<Integer, Faculty>();
+        final var names = new HashSet<String>();
+        final var deanNames = new HashSet<String>();
+        final var deanEmails = new HashSet<String>();
+        for (var index = 0; index < faculties.size(); index++) {
+            final var faculty = faculties.get(index);
+            final var violations = validator.validate(faculty);
+            if (!violations.isEmpty()) {
+                final var detail = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+                results[index] = BulkResult.failed(index, INVALID, detail);
+            } else if (faculty.getDean() == null) {
+                results[index] = BulkResult.failed(index, INVALID, "dean: must not be null");
+            } else if (faculty.getDean().getEmail() == null) {
+                // die Spalte dean.email ist NOT NULL und UNIQUE
+                results[index] = BulkResult.failed(index, INVALID, "dean.email: must not be null");
+            } else if (!names.add(faculty.getName()) || !deanNames.add(faculty.getDean().getName())
+                || !deanEmails.add(faculty.getDean().getEmail())) {
+                results[index] = BulkResult.failed(index, DUPLICATE, "Name oder Dekan mehrfach vorhanden");
+            } else {
+                candidates.put(index, faculty);
+            }
+        }
+        return candidates;
+    }
+
+    private List<FacultyNames> findExisting(final Collection<Faculty> candidates) {
+        final var faculties = List.copyOf(candidates);
+        final var existing = new ArrayList<FacultyNames>();
+        for (var start = 0; start < faculties.size(); start += LOOKUP_CHUNK_SIZE) {
+            final var chunk = faculties.subList(start, Math.min(start + LOOKUP_CHUNK_SIZE, faculties.size()));
+            final var names = chunk.stream().map(Faculty::getName).toList();
+            final var deanNames = chunk.stream().map(faculty -> faculty.getDean().getName()).toList();
+            final var deanEmails = chunk.stream().map(faculty -> faculty.getDean().getEmail()).toList();
+            existing.addAll(repository.findNames(names, deanNames, deanEmails));
+        }
+        return existing;
+    }
+
+    private void insertAll(final Map<Integer, Faculty> toCreate, final BulkResult[] results) {
+        final var entries = List.copyOf(toCreate.entrySet());
+        final var pending = new HashMap<Integer, Faculty>();
+        for (var start = 0; start < entries.size(); start += BULK_CHUNK_SIZE) {
+            final var chunk = entries.subList(start, Math.min(start + BULK_CHUNK_SIZE, entries.size()));
+            new TransactionTemplate(transactionManager).executeWithoutResult(_ -> {
+                // vor save(), damit die INSERTs bereits eine Position in der Änderungsfolge enthalten
+                stamp(chunk.stream().map(Map.Entry::getValue).toList());
+                chunk.forEach(entry -> pending.put(entry.getKey(), repository.save(entry.getValue())));
+                publish(pending, results, BulkResult.Status.CREATED);
+            });
+        }
+    }
+
+    private void updateAll(final Map<UUID, Integer> toUpdate, final List<Faculty> input, final BulkResult[] results) {
+        final var ids = List.copyOf(toUpdate.keySet());
+        final var pending = new HashMap<Integer, Faculty>();
+        for (var start = 0; start < ids.size(); start += BULK_CHUNK_SIZE) {
+            final var chunk = ids.subList(start, Math.min(start + BULK_CHUNK_SIZE, ids.size()));
+            new TransactionTemplate(transactionManager).executeWithoutResult(_ -> {
+                repository.findAllByIdFetchDeanAndCourses(chunk).forEach(facultyDb -> {
+                    final int index = toUpdate.get(facultyDb.getId());
+                    final var faculty = input.get(index);
+                    facultyDb.getDean().setName(faculty.getDean().getName());
+                    facultyDb.getDean().setEmail(faculty.getDean().getEmail());
+                    facultyDb.getCourses().clear();
+                    facultyDb.getCourses().addAll(faculty.getCourses());
+                    pending.put(index, facultyDb);
+                });
+                stamp(pending.values());
+                publish(pending, results, BulkResult.Status.UPDATED);
+            });
+        }
+    }
+
+    private void publish(
+        final Map<Integer, Faculty> pending,
+        final BulkResult[] results,
+        final BulkResult.Status status
+    ) {
+        // Events vor dem Commit, damit Listener wie FacultyViewUpdater im selben JDBC-Batch schreiben
+        final var changeType = status == BulkResult.Status.CREATED ? CREATED : UPDATED;
+        pending.forEach((index, faculty) -> {
+            results[index] = BulkResult.of(index, faculty, status);
+            eventPublisher.publishEvent(new FacultyChangedEvent(faculty, changeType));
+        });
+        pending.clear();
+    }
+
+    // vorläufige Position in der Änderungsfolge, weil change_seq NOT NULL und UNIQUE ist; mit einer Query für alle
+    private void stamp(final Collection<Faculty> faculties) {
+        if (faculties.isEmpty()) {
+            return;
+        }
+        final var changedAt = Instant.now();
+        final var changeSeqs = sequenceValues.next(Faculty.CHANGE_SEQUENCE, faculties.size()).iterator();
+        faculties.forEach(faculty -> {
+            faculty.setChangeSeq(changeSeqs.next());
+            faculty.setChangedAt(changedAt);
+        });
+        pendingStamps().faculties().addAll(faculties);
+    }
+
+    private PendingStamps pendingStamps() {
+        final var current = (PendingStamps) TransactionSynchronizationManager.getResource(this);
+        if (current != null) {
+            return current;
+        }
+        final var pending = new PendingStamps(new ArrayList<>(), new ArrayList<>());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // ohne Transaktion bleibt es bei den vorläufigen Positionen
+            return pending;
+        }
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                stampInCommitOrder(pending);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(FacultyWriteService.this);
+            }
+        });
+        return pending;
+    }
+
+    // Die endgültigen Positionen vergibt SequenceValues unter einer Sperre, die bis zum Commit gehalten wird. Damit
+    // sind die Positionen in der Reihenfolge der Commits aufsteigend, und "GET /rest/changes" kann keine Änderung
+    // überspringen, die erst nach einer größeren Position committet, egal wie lange die Transaktion dauert.
+    private void stampInCommitOrder(final PendingStamps pending) {
+        final var count = pending.faculties().size() + pending.tombstones().size();
+        if (count == 0) {
+            return;
+        }
+        // INSERTs und UPDATEs vor der Sperre schreiben, damit sie nur noch für die Positionen und den Commit gilt
+        entityManager.flush();
+        final var changeSeqs = sequenceValues.nextInCommitOrder(Faculty.CHANGE_SEQUENCE, count).iterator();
+        final var changedAt = Instant.now();
+        pending.faculties().forEach(faculty -> {
+            faculty.setChangeSeq(changeSeqs.next());
+            faculty.setChangedAt(changedAt);
+        });
+        pending.tombstones().forEach(tombstone -> {
+            tombstone.setChangeSeq(changeSeqs.next());
+            tombstone.setChangedAt(changedAt);
+        });
+        log.trace("stampInCommitOrder: {} Positionen", count);
+    }
+
+    private record PendingStamps(List<Faculty> faculties, List<FacultyTombstone> tombstones) {
+    }
 }
@@ -0,0 +1,24 @@
+package com.acme.faculty.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * {@linkplain OutboxPublisher}, der die Nachrichten als Events innerhalb des Microservice veröffentlicht, z.B. für
+ * Tests oder solange kein Message Broker angebunden ist. Empfänger verwenden EventListener für OutboxMessage.
+ *
+ * @author Ahmad Hawarnah
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class InProcessOutboxPublisher implements OutboxPublisher {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(final List<OutboxMessage> messages) {
+        log.debug("publish: {} Nachrichten", messages.size());
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,24 @@
+package com.acme.faculty.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Konfiguration für die Transactional Outbox.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface OutboxConfig {
+    /**
+     * Bean-Methode für den {@linkplain InProcessOutboxPublisher}, falls kein anderer OutboxPublisher konfiguriert ist.
+     *
+     * @param eventPublisher Publisher für Events innerhalb des Microservice
+     * @return OutboxPublisher für die Einträge aus {@code faculty_outbox}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    default OutboxPublisher outboxPublisher(final ApplicationEventPublisher eventPublisher) {
+        return new InProcessOutboxPublisher(eventPublisher);
+    }
+}
@@ -0,0 +1,29 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.FacultyOutbox;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Unveränderliche Nachricht zu einem Eintrag in {@code faculty_outbox} für einen {@linkplain OutboxPublisher}.
+ *
+ * @author Ahmad Hawarnah
+ * @param id Fortlaufende ID des Eintrags, z.B. für die Erkennung von Duplikaten
+ * @param facultyId ID der Fakultät
+ * @param version Versionsnummer der Fakultät nach dem Commit
+ * @param type Art der Änderung, z.B. "CREATED"
+ * @param payload Die Fakultät mit Dekan und Kursen als JSON
+ * @param createdAt Zeitpunkt, zu dem der Eintrag geschrieben wurde
+ */
+public record OutboxMessage(long id, UUID facultyId, int version, String type, String payload, Instant createdAt) {
+    static OutboxMessage of(final FacultyOutbox entry) {
+        return new OutboxMessage(
+            entry.getId(),
+            entry.getFacultyId(),
+            entry.getVersion(),
+            entry.getType(),
+            entry.getPayload(),
+            entry.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.acme.faculty.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.outbox.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param enabled true, falls Änderungen an Fakultäten in {@code faculty_outbox} geschrieben und veröffentlicht werden
+ * @param relay true, falls diese Instanz die offenen Einträge veröffentlichen soll, z.B. false für Instanzen, die nur
+ *              schreiben
+ * @param pollInterval Abstand, in dem nach offenen Einträgen gesucht wird
+ * @param batchSize Maximale Anzahl an Einträgen, die in einer Transaktion gesperrt und veröffentlicht werden
+ * @param workers Anzahl der (virtuellen) Threads, die parallel veröffentlichen
+ * @param retention Aufbewahrungsdauer für veröffentlichte Einträge, z.B. für die Synchronisation mit Deltas
+ * @param maxAttempts Maximale Anzahl an Versuchen, danach wird ein Eintrag als "Dead Letter" markiert
+ * @param backoff Wartezeit nach dem ersten Fehler, die sich mit jedem weiteren Fehler verdoppelt
+ * @param maxBackoff Maximale Wartezeit zwischen zwei Versuchen
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProps(
+    @DefaultValue("true")
+    boolean enabled,
+
+    @DefaultValue("true")
+    boolean relay,
+
+    @DefaultValue("1s")
+    Duration pollInterval,
+
+    @DefaultValue("100")
+    int batchSize,
+
+    @DefaultValue("2")
+    int workers,
+
+    @DefaultValue("7d")
+    Duration retention,
+
+    @DefaultValue("10")
+    int maxAttempts,
+
+    @DefaultValue("1s")
+    Duration backoff,
+
+    @DefaultValue("5m")
+    Duration maxBackoff
+) {
+}
@@ -0,0 +1,22 @@
+package com.acme.faculty.service;
+
+import java.util.List;
+
+/**
+ * Schnittstelle, um Einträge aus {@code faculty_outbox} an nachgelagerte Systeme zu übergeben, z.B. an einen Message
+ * Broker. Die Zustellung erfolgt "at least once": schlägt der Commit nach einer erfolgreichen Übergabe fehl, wird der
+ * Block erneut übergeben, und nach einem Fehler werden Teile des Blocks erneut übergeben. Empfänger erkennen
+ * Duplikate an der ID der Nachricht oder an der Versionsnummer.
+ *
+ * @author Ahmad Hawarnah
+ */
+public interface OutboxPublisher {
+    /**
+     * Einen Block von Nachrichten in der Reihenfolge der IDs übergeben.
+     *
+     * @param messages Die Nachrichten
+     * @throws RuntimeException falls die Übergabe fehlschlägt; FacultyOutboxRelay übergibt dann die beiden Hälften
+     *      des Blocks einzeln, bis die fehlerhaften Nachrichten feststehen, und versucht nur diese später erneut
+     */
+    void publish(List<OutboxMessage> messages);
+}
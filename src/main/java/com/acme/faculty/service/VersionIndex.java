@@ -0,0 +1,69 @@
+package com.acme.faculty.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static com.acme.faculty.service.FacultyChangedEvent.ChangeType.DELETED;
+
+/**
+ * Index im Hauptspeicher von der ID einer Fakultät auf ihre Versionsnummer, damit bedingte GET-Requests mit
+ * If-None-Match ohne DB-Zugriff beantwortet werden können. Der Index wird beim Lesen einer Fakultät und nach dem
+ * Commit von Schreibzugriffen aktualisiert. Ist der Index voll, verdrängt ein neuer Eintrag einen selten verwendeten;
+ * abgelaufene Einträge entfernt Caffeine auch ohne Lesezugriff.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Component
+@Slf4j
+class VersionIndex {
+    private final Cache<UUID, Integer> versions;
+
+    VersionIndex(final VersionIndexProps props) {
+        versions = Caffeine.newBuilder()
+            .maximumSize(props.maxSize())
+            .expireAfterWrite(props.maxAge())
+            .build();
+    }
+
+    /**
+     * Die Versionsnummer zu einer Fakultät ermitteln.
+     *
+     * @param id ID der Fakultät
+     * @return Die Versionsnummer oder ein leeres Optional, falls kein aktueller Eintrag vorhanden ist
+     */
+    Optional<Integer> get(final UUID id) {
+        return Optional.ofNullable(versions.getIfPresent(id));
+    }
+
+    /**
+     * Die Versionsnummer einer Fakultät eintragen. Eine ältere Versionsnummer, z.B. von einem Lesezugriff, der vor
+     * dem Commit einer Änderung begonnen hat, verdrängt keine neuere.
+     *
+     * @param id ID der Fakultät
+     * @param version Aktuelle Versionsnummer
+     */
+    void put(final UUID id, final int version) {
+        versions.asMap().merge(id, version, Math::max);
+    }
+
+    /**
+     * Nach dem Commit die neue Versionsnummer einer geänderten Fakultät eintragen.
+     *
+     * @param event Event von FacultyWriteService
+     */
+    @TransactionalEventListener
+    void onFacultyChanged(final FacultyChangedEvent event) {
+        final var faculty = event.faculty();
+        log.trace("onFacultyChanged: id={}, version={}", faculty.getId(), faculty.getVersion());
+        if (event.type() == DELETED) {
+            versions.invalidate(faculty.getId());
+            return;
+        }
+        put(faculty.getId(), faculty.getVersion());
+    }
+}
@@ -0,0 +1,23 @@
+package com.acme.faculty.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.version-index.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param maxAge Maximales Alter eines Eintrags. Bei mehreren Instanzen werden Änderungen einer anderen Instanz erst
+ *               nach dieser Zeit berücksichtigt.
+ * @param maxSize Maximale Anzahl an Einträgen
+ */
+@ConfigurationProperties(prefix = "app.version-index")
+public record VersionIndexProps(
+    @DefaultValue("30s")
+    Duration maxAge,
+
+    @DefaultValue("100000")
+    int maxSize
+) {
+}
@@ -0,0 +1,21 @@
+package com.acme.faculty.service;
+
+import lombok.Getter;
+
+/**
+ * Exception, falls die Queue für asynchrone Schreibaufträge voll ist.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Getter
+public class WritePipelineFullException extends RuntimeException {
+    /**
+     * Maximale Anzahl an wartenden Schreibaufträgen.
+     */
+    private final int queueCapacity;
+
+    WritePipelineFullException(final int queueCapacity) {
+        super("Die Queue fuer Schreibauftraege ist voll: " + queueCapacity);
+        this.queueCapacity = queueCapacity;
+    }
+}
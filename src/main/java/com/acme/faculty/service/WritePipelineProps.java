@@ -0,0 +1,35 @@
+package com.acme.faculty.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Spring-Konfiguration für Properties "app.write-pipeline.*".
+ *
+ * @author Ahmad Hawarnah
+ * @param queueCapacity Maximale Anzahl an angenommenen, noch nicht verarbeiteten Schreibaufträgen. Ist die Queue
+ *                      voll, wird ein weiterer Auftrag mit Status 503 abgelehnt.
+ * @param batchSize Maximale Anzahl an Schreibaufträgen, die in einer Transaktion verarbeitet werden
+ * @param workers Anzahl der Virtual Threads, die Schreibaufträge verarbeiten
+ * @param statusRetention Wie lange der Status eines abgeschlossenen Auftrags abgefragt werden kann
+ * @param shutdownTimeout Wie lange beim Herunterfahren auf das Schreiben der angenommenen Aufträge gewartet wird
+ */
+@ConfigurationProperties(prefix = "app.write-pipeline")
+public record WritePipelineProps(
+    @DefaultValue("1000")
+    int queueCapacity,
+
+    @DefaultValue("20")
+    int batchSize,
+
+    @DefaultValue("4")
+    int workers,
+
+    @DefaultValue("10m")
+    Duration statusRetention,
+
+    @DefaultValue("20s")
+    Duration shutdownTimeout
+) {
+}
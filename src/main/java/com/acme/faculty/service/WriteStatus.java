@@ -0,0 +1,60 @@
+package com.acme.faculty.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.UUID;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Status eines asynchronen Schreibauftrags für eine Fakultät.
+ *
+ * @author Ahmad Hawarnah
+ * @param id ID des Schreibauftrags
+ * @param state Zustand des Schreibauftrags
+ * @param facultyId ID der neu angelegten bzw. aktualisierten Fakultät
+ * @param version Versionsnummer der Fakultät nach dem Schreiben
+ * @param detail Fehlermeldung, falls der Auftrag fehlgeschlagen ist
+ * @param completed Zeitpunkt, zu dem der Auftrag abgeschlossen wurde
+ */
+@JsonInclude(NON_NULL)
+public record WriteStatus(
+    UUID id,
+    State state,
+    UUID facultyId,
+    Integer version,
+    String detail,
+    Instant completed
+) {
+    /**
+     * Zustände eines Schreibauftrags.
+     */
+    public enum State {
+        /**
+         * Der Auftrag wurde angenommen, aber noch nicht verarbeitet.
+         */
+        PENDING,
+
+        /**
+         * Die Fakultät wurde gespeichert.
+         */
+        DONE,
+
+        /**
+         * Der Auftrag ist fehlgeschlagen, z.B. weil der Name bereits existiert.
+         */
+        FAILED
+    }
+
+    static WriteStatus pending(final UUID id) {
+        return new WriteStatus(id, State.PENDING, null, null, null, null);
+    }
+
+    WriteStatus done(final UUID facultyId, final int facultyVersion) {
+        return new WriteStatus(id, State.DONE, facultyId, facultyVersion, null, Instant.now());
+    }
+
+    WriteStatus failed(final String message) {
+        return new WriteStatus(id, State.FAILED, null, null, message, Instant.now());
+    }
+}
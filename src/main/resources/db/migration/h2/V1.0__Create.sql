@@ -0,0 +1,34 @@
+-- Schema fuer H2, z.B. im Profile "dev" und fuer die Benchmarks: entspricht postgresql/V1.0__Create.sql ohne
+-- Tablespaces und mit den Spalten, die von den Entity-Klassen verwendet werden.
+CREATE TABLE IF NOT EXISTS login (
+    id       uuid PRIMARY KEY,
+    username varchar(20) NOT NULL UNIQUE,
+    password varchar(180) NOT NULL,
+    rollen   varchar(32)
+);
+
+CREATE TABLE IF NOT EXISTS dean (
+    id      uuid PRIMARY KEY,
+    name    varchar(100) NOT NULL,
+    email   varchar(100) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS faculty (
+    id          uuid PRIMARY KEY,
+    version     integer NOT NULL DEFAULT 0,
+    name        varchar(100) NOT NULL,
+    dean_id     uuid NOT NULL REFERENCES dean(id),
+    UNIQUE(name, dean_id)
+);
+
+CREATE TABLE IF NOT EXISTS course (
+    id          uuid PRIMARY KEY,
+    name        varchar(100) NOT NULL,
+    faculty_id  uuid REFERENCES faculty(id),
+    idx         integer
+);
+
+CREATE INDEX IF NOT EXISTS dean_email_idx ON dean(email);
+CREATE INDEX IF NOT EXISTS faculty_name_idx ON faculty(name);
+CREATE INDEX IF NOT EXISTS course_name_idx ON course(name);
+CREATE INDEX IF NOT EXISTS course_faculty_id_idx ON course(faculty_id);
@@ -0,0 +1,13 @@
+-- Denormalisierte Lesesicht wie in postgresql/V1.3__FacultyView.sql: die Kurse als JSON statt jsonb und ohne
+-- Trigram-Indexe. Die Tabelle wird nur mit "app.read.model: VIEW" von FacultyViewUpdater geschrieben.
+CREATE TABLE IF NOT EXISTS faculty_view (
+    id          uuid PRIMARY KEY,
+    name        varchar(100) NOT NULL,
+    dean_id     uuid NOT NULL,
+    dean_name   varchar(100) NOT NULL,
+    dean_email  varchar(100) NOT NULL,
+    courses     json NOT NULL DEFAULT JSON '[]'
+);
+
+-- Keyset-Pagination ueber Name und ID
+CREATE INDEX IF NOT EXISTS faculty_view_name_id_idx ON faculty_view(name, id);
@@ -0,0 +1,18 @@
+-- Transactional Outbox wie in postgresql/V1.4__FacultyOutbox.sql, ohne Tablespace und mit json statt jsonb.
+CREATE SEQUENCE IF NOT EXISTS faculty_outbox_seq;
+
+CREATE TABLE IF NOT EXISTS faculty_outbox (
+    id              bigint PRIMARY KEY,
+    faculty_id      uuid NOT NULL,
+    version         integer NOT NULL,
+    type            varchar(16) NOT NULL,
+    payload         json NOT NULL,
+    created_at      timestamp with time zone NOT NULL,
+    attempts        integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp with time zone,
+    published_at    timestamp with time zone,
+    failed_at       timestamp with time zone
+);
+
+CREATE INDEX IF NOT EXISTS faculty_outbox_faculty_id_idx ON faculty_outbox(faculty_id, id);
+CREATE INDEX IF NOT EXISTS faculty_outbox_published_at_idx ON faculty_outbox(published_at);
@@ -0,0 +1,16 @@
+-- Aenderungsfolge und Tombstones wie in postgresql/V1.5__ChangeSequence.sql, ohne Tablespace.
+CREATE SEQUENCE IF NOT EXISTS faculty_change_seq;
+
+ALTER TABLE faculty ADD COLUMN IF NOT EXISTS change_seq bigint;
+ALTER TABLE faculty ADD COLUMN IF NOT EXISTS changed_at timestamp with time zone;
+UPDATE faculty SET change_seq = NEXT VALUE FOR faculty_change_seq, changed_at = CURRENT_TIMESTAMP
+    WHERE change_seq IS NULL;
+ALTER TABLE faculty ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE faculty ALTER COLUMN changed_at SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS faculty_change_seq_idx ON faculty(change_seq);
+
+CREATE TABLE IF NOT EXISTS faculty_tombstone (
+    id          uuid PRIMARY KEY,
+    change_seq  bigint NOT NULL UNIQUE,
+    changed_at  timestamp with time zone NOT NULL
+);
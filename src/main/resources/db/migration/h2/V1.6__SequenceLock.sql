@@ -0,0 +1,6 @@
+-- Sperre pro Sequenz wie in postgresql/V1.6__SequenceLock.sql, ohne Tablespace.
+CREATE TABLE IF NOT EXISTS sequence_lock (
+    name    varchar(63) PRIMARY KEY
+);
+
+MERGE INTO sequence_lock (name) KEY (name) VALUES ('faculty_change_seq');
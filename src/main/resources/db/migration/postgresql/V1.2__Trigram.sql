@@ -0,0 +1,11 @@
+-- Teilstring-Suche mit "lower(name) LIKE '%...%'" kann einen B-Baum-Index wie faculty_name_idx nicht nutzen.
+-- GIN-Indexe mit Trigrammen ueber den Ausdruck lower(name) passen zu den Queries in FacultyRepository und
+-- SpecificationBuilder, die Queries muessen deshalb nicht geaendert werden.
+-- https://www.postgresql.org/docs/current/pgtrgm.html#PGTRGM-INDEX
+
+-- pg_trgm ist seit PostgreSQL 13 eine "trusted extension": CREATE-Recht fuer die DB genuegt
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS faculty_name_trgm_idx ON faculty USING gin (lower(name) gin_trgm_ops) TABLESPACE facultyspace;
+CREATE INDEX IF NOT EXISTS dean_name_trgm_idx ON dean USING gin (lower(name) gin_trgm_ops) TABLESPACE facultyspace;
+CREATE INDEX IF NOT EXISTS course_name_trgm_idx ON course USING gin (lower(name) gin_trgm_ops) TABLESPACE facultyspace;
@@ -0,0 +1,28 @@
+-- Denormalisierte Lesesicht mit einer Zeile pro Fakultaet: Daten des Dekans und Kurse als JSON-Array, so dass die
+-- Suche mit "app.read.model: VIEW" ohne Joins auskommt. Die Tabelle wird von FacultyViewUpdater in derselben
+-- Transaktion wie faculty, dean und course geschrieben; hier wird sie nur einmalig mit dem Bestand gefuellt.
+CREATE TABLE IF NOT EXISTS faculty_view (
+    id          uuid PRIMARY KEY USING INDEX TABLESPACE facultyspace,
+    name        varchar(100) NOT NULL,
+    dean_id     uuid NOT NULL,
+    dean_name   varchar(100) NOT NULL,
+    dean_email  varchar(100) NOT NULL,
+    courses     jsonb NOT NULL DEFAULT '[]'
+) TABLESPACE facultyspace;
+
+-- Keyset-Pagination ueber Name und ID
+CREATE INDEX IF NOT EXISTS faculty_view_name_id_idx ON faculty_view(name, id) TABLESPACE facultyspace;
+CREATE INDEX IF NOT EXISTS faculty_view_name_trgm_idx ON faculty_view USING gin (lower(name) gin_trgm_ops) TABLESPACE facultyspace;
+CREATE INDEX IF NOT EXISTS faculty_view_dean_name_trgm_idx ON faculty_view USING gin (lower(dean_name) gin_trgm_ops) TABLESPACE facultyspace;
+
+INSERT INTO faculty_view (id, name, dean_id, dean_name, dean_email, courses)
+SELECT f.id, f.name, d.id, d.name, d.email,
+       COALESCE(
+           (SELECT jsonb_agg(jsonb_build_object('id', c.id, 'name', c.name) ORDER BY c.idx)
+            FROM course c
+            WHERE c.faculty_id = f.id),
+           '[]'
+       )
+FROM faculty f
+JOIN dean d ON d.id = f.dean_id
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,27 @@
+-- Transactional Outbox: FacultyOutboxWriter schreibt pro neu angelegter oder aktualisierter Fakultaet eine Zeile in
+-- derselben Transaktion wie faculty, dean und course. FacultyOutboxRelay liest offene Zeilen blockweise mit
+-- "FOR UPDATE SKIP LOCKED", so dass mehrere Threads und Instanzen parallel arbeiten, ohne sich zu blockieren.
+-- Die IDs stammen aus einer Sequenz statt IDENTITY, damit die INSERTs als JDBC-Batch gesendet werden koennen.
+CREATE SEQUENCE IF NOT EXISTS faculty_outbox_seq;
+
+CREATE TABLE IF NOT EXISTS faculty_outbox (
+    id              bigint PRIMARY KEY USING INDEX TABLESPACE facultyspace,
+    faculty_id      uuid NOT NULL,
+    version         integer NOT NULL,
+    type            varchar(16) NOT NULL,
+    payload         jsonb NOT NULL,
+    created_at      timestamp with time zone NOT NULL,
+    attempts        integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp with time zone,
+    published_at    timestamp with time zone,
+    -- "Dead Letter": nach app.outbox.max-attempts Fehlversuchen aufgegeben
+    failed_at       timestamp with time zone
+) TABLESPACE facultyspace;
+
+-- nur die noch offenen Zeilen in der Reihenfolge der IDs bzw. pro Fakultaet
+CREATE INDEX IF NOT EXISTS faculty_outbox_pending_idx ON faculty_outbox(id) TABLESPACE facultyspace
+    WHERE published_at IS NULL AND failed_at IS NULL;
+CREATE INDEX IF NOT EXISTS faculty_outbox_pending_faculty_idx ON faculty_outbox(faculty_id, id)
+    TABLESPACE facultyspace WHERE published_at IS NULL AND failed_at IS NULL;
+-- Loeschen veroeffentlichter Zeilen nach Ablauf der Aufbewahrungsdauer
+CREATE INDEX IF NOT EXISTS faculty_outbox_published_at_idx ON faculty_outbox(published_at) TABLESPACE facultyspace;
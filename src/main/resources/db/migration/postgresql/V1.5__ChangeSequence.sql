@@ -0,0 +1,18 @@
+-- Aenderungsfolge fuer die Synchronisation mit Deltas ueber "GET /rest/changes?since=...": FacultyWriteService
+-- vergibt beim Neuanlegen, Aktualisieren und Loeschen den naechsten Wert der Sequenz. Geloeschte Fakultaeten bleiben
+-- als Tombstone erhalten, damit auch das Loeschen synchronisiert werden kann.
+CREATE SEQUENCE IF NOT EXISTS faculty_change_seq;
+
+ALTER TABLE faculty ADD COLUMN IF NOT EXISTS change_seq bigint;
+ALTER TABLE faculty ADD COLUMN IF NOT EXISTS changed_at timestamp with time zone;
+-- Bestand: einmalig fortlaufend nummerieren
+UPDATE faculty SET change_seq = nextval('faculty_change_seq'), changed_at = now() WHERE change_seq IS NULL;
+ALTER TABLE faculty ALTER COLUMN change_seq SET NOT NULL;
+ALTER TABLE faculty ALTER COLUMN changed_at SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS faculty_change_seq_idx ON faculty(change_seq) TABLESPACE facultyspace;
+
+CREATE TABLE IF NOT EXISTS faculty_tombstone (
+    id          uuid PRIMARY KEY USING INDEX TABLESPACE facultyspace,
+    change_seq  bigint NOT NULL UNIQUE USING INDEX TABLESPACE facultyspace,
+    changed_at  timestamp with time zone NOT NULL
+) TABLESPACE facultyspace;
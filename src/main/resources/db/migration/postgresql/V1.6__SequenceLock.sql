@@ -0,0 +1,7 @@
+-- Eine Zeile pro Sequenz, die SequenceValues.nextInCommitOrder() bis zum Commit sperrt: die Werte sind dann in der
+-- Reihenfolge der Commits aufsteigend, und "GET /rest/changes" ueberspringt keine Aenderung, die spaeter committet.
+CREATE TABLE IF NOT EXISTS sequence_lock (
+    name    varchar(63) PRIMARY KEY USING INDEX TABLESPACE facultyspace
+) TABLESPACE facultyspace;
+
+INSERT INTO sequence_lock (name) VALUES ('faculty_change_seq') ON CONFLICT DO NOTHING;
@@ -0,0 +1,163 @@
+package com.acme.faculty.controller;
+
+import com.acme.faculty.entity.Course;
+import com.acme.faculty.entity.Dean;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultySummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.AnnotationLinkRelationProvider;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.IanaLinkRelations.NEXT;
+
+/**
+ * Kompatibilitätstest für FacultyHalWriter: die Ausgabe muss Byte für Byte mit der Serialisierung von
+ * {@code CollectionModel<FacultyModel>} durch Spring HATEOAS übereinstimmen.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("HAL+JSON mit FacultyHalWriter")
+class FacultyHalWriterTest {
+    private static final FacultyLinks LINKS = new FacultyLinks("https://localhost:8080/rest");
+    private static final String NEXT_HREF = "https://localhost:8080/rest?limit=2&cursor=abc";
+
+    private ObjectMapper halMapper;
+    private FacultyHalWriter halWriter;
+
+    @BeforeAll
+    void beforeAll() {
+        // wie der ObjectMapper, den Spring HATEOAS fuer "application/hal+json" aus dem ObjectMapper von Spring Boot
+        // mit "spring.jackson.default-property-inclusion: non_null" ableitet
+        halMapper = new ObjectMapper()
+            .setSerializationInclusion(NON_NULL)
+            .registerModule(new Jackson2HalModule())
+            .setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new AnnotationLinkRelationProvider(),
+                CurieProvider.NONE,
+                MessageResolver.DEFAULTS_ONLY
+            ));
+        halWriter = new FacultyHalWriter(halMapper);
+    }
+
+    @Test
+    @DisplayName("Leere Seite")
+    void empty() throws IOException {
+        // when
+        final var expected = serialize(List.of(), null);
+        final var actual = write(List.of(), null);
+
+        // then
+        assertThat(actual).isEqualTo(expected).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("Letzte Seite ohne Link next")
+    void withoutNext() throws IOException {
+        // given
+        final var faculties = List.of(
+            newFaculty("Informatik", "Prof. Dr. Ada Lovelace", "ada@acme.com", "Algorithmen", "Datenbanken"),
+            newFaculty("Wirtschaft \"und\" Recht", "Prof. Dr. Öztürk", null, "Ökonomie")
+        );
+
+        // when
+        final var expected = serialize(faculties, null);
+        final var actual = write(faculties, null);
+
+        // then
+        assertThat(actual)
+            .isEqualTo(expected)
+            .doesNotContain("\"next\"")
+            .doesNotContain("\"email\":null");
+    }
+
+    @Test
+    @DisplayName("Seite mit Link next")
+    void withNext() throws IOException {
+        // given
+        final var faculties = List.of(
+            newFaculty("Informatik", "Prof. Dr. Ada Lovelace", "ada@acme.com", "Algorithmen"),
+            newFaculty("Maschinenbau", "Prof. Dr. Carl Benz", "benz@acme.com", "Motoren", "Getriebe", "Fahrwerk")
+        );
+
+        // when
+        final var expected = serialize(faculties, NEXT_HREF);
+        final var actual = write(faculties, NEXT_HREF);
+
+        // then
+        assertThat(actual)
+            .isEqualTo(expected)
+            .contains("\"next\":{\"href\":\"" + NEXT_HREF + "\"}");
+    }
+
+    private String serialize(final List<Faculty> faculties, final String nextHref) throws IOException {
+        final var models = faculties.stream()
+            .map(faculty -> {
+                final var model = new FacultyModel(faculty);
+                model.add(LINKS.self(faculty.getId()));
+                return model;
+            })
+            .toList();
+        final var collectionModel = nextHref == null
+            ? CollectionModel.of(models)
+            : CollectionModel.of(models, Link.of(nextHref, NEXT));
+        return halMapper.writeValueAsString(collectionModel);
+    }
+
+    private String write(final List<Faculty> faculties, final String nextHref) throws IOException {
+        final var summaries = faculties.stream().map(FacultyHalWriterTest::toSummary).toList();
+        final var out = new ByteArrayOutputStream();
+        halWriter.write(summaries, LINKS, nextHref, out);
+        return out.toString(UTF_8);
+    }
+
+    private static Faculty newFaculty(
+        final String name,
+        final String deanName,
+        final String deanEmail,
+        final String... courseNames
+    ) {
+        final var dean = Dean.builder().id(UUID.randomUUID()).name(deanName).email(deanEmail).build();
+        final var courses = new ArrayList<Course>();
+        for (final var courseName : courseNames) {
+            courses.add(Course.builder().id(UUID.randomUUID()).name(courseName).build());
+        }
+        return Faculty.builder()
+            .id(UUID.randomUUID())
+            .name(name)
+            .dean(dean)
+            .courses(courses)
+            .build();
+    }
+
+    private static FacultySummary toSummary(final Faculty faculty) {
+        final var dean = faculty.getDean();
+        final var courses = faculty.getCourses()
+            .stream()
+            .map(course -> new CourseSummary(faculty.getId(), course.getId(), course.getName()))
+            .toList();
+        return new FacultySummary(
+            faculty.getId(),
+            faculty.getName(),
+            new DeanSummary(dean.getId(), dean.getName(), dean.getEmail()),
+            courses
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.acme.faculty.controller;
+
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.ScrollPosition;
+import static com.acme.faculty.service.FacultyReadService.CATALOG_KEY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für den Cursor bei Keyset-Pagination.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Cursor fuer Keyset-Pagination")
+class KeysetCursorTest {
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Test
+    @DisplayName("Ohne Cursor beginnt die erste Seite")
+    void decodeNull() {
+        // when
+        final var position = KeysetCursor.decode(null);
+
+        // then
+        assertThat(position.isInitial()).isTrue();
+        assertThat(KeysetCursor.decode("").isInitial()).isTrue();
+    }
+
+    @ParameterizedTest(name = "[{index}] Name: {0}")
+    @ValueSource(strings = {"Informatik", "Wirtschaft und Recht", "Ä/Ö?Ü&ß=+", "x"})
+    @DisplayName("Name und ID bleiben beim Codieren und Decodieren erhalten")
+    void roundTrip(final String name) {
+        // given
+        final var cursor = KeysetCursor.encode(ID, name);
+
+        // when
+        final var position = KeysetCursor.decode(cursor);
+
+        // then
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(position.isInitial()).isFalse();
+        assertThat(position.getKeys())
+            .containsEntry("id", ID)
+            .containsEntry("name", name);
+    }
+
+    @Test
+    @DisplayName("Eine Position aus dem Katalog bleibt beim Codieren und Decodieren markiert")
+    void roundTripCatalog() {
+        // given
+        final var fromCatalog = ScrollPosition.forward(Map.of("name", "Informatik", "id", ID, CATALOG_KEY, true));
+        final var fromDb = ScrollPosition.forward(Map.of("name", "Informatik", "id", ID));
+
+        // when
+        final var catalogCursor = KeysetCursor.encode(fromCatalog);
+        final var dbCursor = KeysetCursor.encode(fromDb);
+
+        // then
+        assertThat(KeysetCursor.decode(catalogCursor).getKeys()).isEqualTo(fromCatalog.getKeys());
+        assertThat(KeysetCursor.decode(dbCursor).getKeys()).isEqualTo(fromDb.getKeys());
+        assertThat(dbCursor).isEqualTo(KeysetCursor.encode(ID, "Informatik"));
+    }
+
+    @ParameterizedTest(name = "[{index}] Cursor: {0}")
+    @ValueSource(strings = {"%%%", "abc"})
+    @DisplayName("Ein Cursor, der kein gueltiges Base64 ist, wird abgelehnt")
+    void decodeInvalidBase64(final String cursor) {
+        // when + then
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+            .isInstanceOf(InvalidCursorException.class)
+            .extracting("cursor")
+            .isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Ein Cursor ohne Name wird abgelehnt")
+    void decodeWithoutName() {
+        // given
+        final var cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(ID.toString().getBytes(UTF_8));
+
+        // when + then
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("Ein Cursor ohne gueltige ID wird abgelehnt")
+    void decodeInvalidId() {
+        // given
+        final var raw = "kein-gueltiger-uuid-praefix-0000000000Informatik";
+        final var cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(UTF_8));
+
+        // when + then
+        assertThatThrownBy(() -> KeysetCursor.decode(cursor)).isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.acme.faculty.repository;
+
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests für das Routing zwischen zwei lokalen H2-Instanzen als primäre DB und als Replikat.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("integration")
+@DisplayName("Routing von Transaktionen auf primaere DB und Replikat")
+class ReadWriteRoutingDataSourceTest {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+    private static final String SELECT_DB = "SELECT name FROM db";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void beforeEach() {
+        primary = h2(PRIMARY);
+        replica = h2(REPLICA);
+        final var props = props();
+        final var routingDataSource = new ReadWriteRoutingDataSource(
+            primary,
+            List.of(replica),
+            new ReadYourWrites(props.readYourWrites()),
+            props
+        );
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void afterEach() {
+        SecurityContextHolder.clearContext();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Read-Only-Transaktionen lesen vom Replikat")
+    void readOnlyToReplica() {
+        // when
+        final var db = readOnly.execute(_ -> jdbcTemplate.queryForObject(SELECT_DB, String.class));
+
+        // then
+        assertThat(db).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("Schreibende Transaktionen verwenden die primaere DB")
+    void writeToPrimary() {
+        // when
+        final var db = readWrite.execute(_ -> {
+            jdbcTemplate.update("UPDATE db SET written = TRUE");
+            return jdbcTemplate.queryForObject(SELECT_DB, String.class);
+        });
+
+        // then
+        assertThat(db).isEqualTo(PRIMARY);
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT written FROM db", Boolean.class)).isTrue();
+        assertThat(new JdbcTemplate(replica).queryForObject("SELECT written FROM db", Boolean.class)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Nach dem eigenen Schreiben liest derselbe Benutzer von der primaeren DB")
+    void readYourWritesFromPrimary() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null));
+        readWrite.executeWithoutResult(_ -> jdbcTemplate.update("UPDATE db SET written = TRUE"));
+
+        // when
+        final var written = readOnly.execute(_ -> jdbcTemplate.queryForObject("SELECT written FROM db", Boolean.class));
+
+        // then
+        assertThat(written).isTrue();
+    }
+
+    @Test
+    @DisplayName("Ein anderer Benutzer liest nach dem Schreiben weiterhin vom Replikat")
+    void otherUserFromReplica() {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null));
+        readWrite.executeWithoutResult(_ -> jdbcTemplate.update("UPDATE db SET written = TRUE"));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", null));
+
+        // when
+        final var db = readOnly.execute(_ -> jdbcTemplate.queryForObject(SELECT_DB, String.class));
+
+        // then
+        assertThat(db).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @DisplayName("Ohne verfuegbares Replikat wird von der primaeren DB gelesen")
+    void replicaDownToPrimary() {
+        // given
+        final var unreachable = new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/" + REPLICA, "sa", "");
+        final var props = props();
+        final DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+            primary,
+            List.of(unreachable),
+            new ReadYourWrites(props.readYourWrites()),
+            props
+        ));
+        final var transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(true);
+
+        // when
+        final var db = transaction.execute(_ -> new JdbcTemplate(dataSource).queryForObject(SELECT_DB, String.class));
+
+        // then
+        assertThat(db).isEqualTo(PRIMARY);
+    }
+
+    private static RoutingDataSourceProps props() {
+        final var readYourWrites = Duration.ofMinutes(1);
+        return new RoutingDataSourceProps(List.of(), Duration.ofSeconds(30), readYourWrites, Duration.ofSeconds(1));
+    }
+
+    private static DriverManagerDataSource h2(final String name) {
+        // DB_CLOSE_DELAY=-1: die In-Memory-DB bleibt bis SHUTDOWN erhalten, auch ohne offene Verbindung
+        final var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE db (name varchar(16) NOT NULL, written boolean NOT NULL)");
+        jdbcTemplate.update("INSERT INTO db VALUES (?, FALSE)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,185 @@
+package com.acme.faculty.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit-Tests für die Verifikation der JWTs mit lokal gepufferten Schlüsseln gegen einen lokalen Stub als Issuer.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Verifikation der JWTs mit JwksCache")
+class JwksCacheTest {
+    private static final String CERTS_PATH = "/realms/spring/protocol/openid-connect/certs";
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private RSAKey oldKey;
+    private RSAKey newKey;
+    private RSAKey unknownKey;
+
+    private HttpServer issuer;
+    private URI issuerUri;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile List<RSAKey> publishedKeys;
+    private volatile boolean issuerDown;
+
+    private JwksCache jwksCache;
+
+    @BeforeAll
+    void beforeAll() throws JOSEException {
+        oldKey = new RSAKeyGenerator(2048).keyID("old").generate();
+        newKey = new RSAKeyGenerator(2048).keyID("new").generate();
+        unknownKey = new RSAKeyGenerator(2048).keyID("unknown").generate();
+    }
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        requests.set(0);
+        publishedKeys = List.of(oldKey);
+        issuerDown = false;
+
+        // Stub fuer den Endpoint von Keycloak mit den oeffentlichen Schluesseln
+        issuer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        issuer.createContext(CERTS_PATH, exchange -> {
+            requests.incrementAndGet();
+            if (issuerDown) {
+                exchange.sendResponseHeaders(SERVICE_UNAVAILABLE, -1);
+                exchange.close();
+                return;
+            }
+            final var publicKeys = publishedKeys.stream().map(RSAKey::toPublicJWK).toList();
+            final var body = new JWKSet(List.copyOf(publicKeys)).toString().getBytes(UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        issuer.start();
+        issuerUri = URI.create("http://localhost:" + issuer.getAddress().getPort() + "/realms/spring");
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (jwksCache != null) {
+            jwksCache.stop();
+        }
+        issuer.stop(0);
+    }
+
+    @Test
+    @DisplayName("Bekannte Schluessel werden aus dem Cache verwendet")
+    void cachedHits() throws JOSEException {
+        // given
+        final var decoder = decoder(Duration.ZERO);
+
+        // when
+        decoder.decode(token(oldKey));
+        decoder.decode(token(oldKey));
+        decoder.decode(token(oldKey));
+
+        // then
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Bei einer unbekannten Key-ID werden die Schluessel neu gelesen")
+    void refreshOnUnknownKid() throws JOSEException {
+        // given
+        final var decoder = decoder(Duration.ZERO);
+        decoder.decode(token(oldKey));
+        publishedKeys = List.of(oldKey, newKey);
+
+        // when
+        final var jwt = decoder.decode(token(newKey));
+
+        // then
+        assertThat(jwt.getSubject()).isEqualTo("admin");
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Innerhalb von min-refresh-interval wird nicht erneut gelesen")
+    void refreshRateLimited() throws JOSEException {
+        // given
+        final var decoder = decoder(Duration.ofHours(1));
+        decoder.decode(token(oldKey));
+        publishedKeys = List.of(oldKey, newKey);
+        final var newToken = token(newKey);
+        final var unknownToken = token(unknownKey);
+
+        // when / then
+        assertThatThrownBy(() -> decoder.decode(newToken)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> decoder.decode(unknownToken)).isInstanceOf(JwtException.class);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Ist der Issuer nicht erreichbar, werden die zuletzt gelesenen Schluessel verwendet")
+    void staleKeysWhileIssuerDown() throws JOSEException {
+        // given
+        final var decoder = decoder(Duration.ZERO);
+        decoder.decode(token(oldKey));
+        issuerDown = true;
+        final var unknownToken = token(unknownKey);
+
+        // when
+        assertThatThrownBy(() -> decoder.decode(unknownToken)).isInstanceOf(JwtException.class);
+        final var jwt = decoder.decode(token(oldKey));
+
+        // then
+        assertThat(jwt.getSubject()).isEqualTo("admin");
+        assertThat(requests).hasValue(2);
+    }
+
+    private JwtDecoder decoder(final Duration minRefreshInterval) {
+        // ohne start(): kein Neulesen im Hintergrund, damit die Anzahl der Requests feststeht
+        final var props =
+            new JwksProps(issuerUri, null, Duration.ofHours(1), minRefreshInterval, Duration.ofSeconds(2));
+        final var config = new JwksConfig() { };
+        jwksCache = config.jwksCache(props, null);
+        return config.jwtDecoder(jwksCache, props, null);
+    }
+
+    private String token(final RSAKey key) throws JOSEException {
+        final var now = Instant.now();
+        final var claims = new JWTClaimsSet.Builder()
+            .issuer(issuerUri.toString())
+            .subject("admin")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(Duration.ofMinutes(5))))
+            .build();
+        final var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
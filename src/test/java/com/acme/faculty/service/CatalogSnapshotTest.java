@@ -0,0 +1,170 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.DeanSummary;
+import com.acme.faculty.repository.FacultySummary;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import static com.acme.faculty.service.FacultyReadService.CATALOG_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit-Tests für die Suche im Katalog.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Suche im Katalog")
+class CatalogSnapshotTest {
+    private static final UUID ID_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID ID_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID ID_3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID ID_4 = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID ID_5 = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    private static final CatalogSnapshot SNAPSHOT = new CatalogSnapshot(List.of(
+        entry(ID_3, "Wirtschaft", "Meyer", 0, "Buchhaltung", "Marketing"),
+        entry(ID_1, "Informatik", "Schmidt", 0, "Datenbanken", "Programmieren"),
+        entry(ID_5, "Architektur", "Schmitt", 0, "Statik"),
+        entry(ID_2, "Informatik", "Weber", 0, "Netze"),
+        entry(ID_4, "Elektrotechnik", "Fischer", 0, "Netze", "Schaltungen")
+    ));
+
+    @Test
+    @DisplayName("Alle Seiten enthalten jede Fakultaet genau einmal, sortiert nach Name und ID")
+    void findAllPages() {
+        // given
+        final var ids = new ArrayList<UUID>();
+        KeysetScrollPosition position = ScrollPosition.keyset();
+
+        // when
+        while (true) {
+            final var window = SNAPSHOT.find(Map.of(), position, 2).orElseThrow();
+            window.forEach(summary -> ids.add(summary.id()));
+            if (!window.hasNext()) {
+                break;
+            }
+            position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            assertThat(position.getKeys()).containsEntry(CATALOG_KEY, true);
+        }
+
+        // then
+        assertThat(ids).containsExactly(ID_5, ID_4, ID_1, ID_2, ID_3);
+    }
+
+    @Test
+    @DisplayName("Die letzte Seite ist genau voll und hat keine Folgeseite")
+    void findLastPageFull() {
+        // given
+        final var position = ScrollPosition.forward(Map.of("name", "Elektrotechnik", "id", ID_4, CATALOG_KEY, true));
+
+        // when
+        final var window = SNAPSHOT.find(Map.of(), position, 3).orElseThrow();
+
+        // then
+        assertThat(window.getContent()).extracting(FacultySummary::id).containsExactly(ID_1, ID_2, ID_3);
+        assertThat(window.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Teilstrings fuer Name, Dekan und Kurs ohne Beachtung der Gross-/Kleinschreibung")
+    void findByCriteria() {
+        // when
+        final var byName = SNAPSHOT.find(Map.of("name", List.of("INFO")), ScrollPosition.keyset(), 10);
+        final var byDean = SNAPSHOT.find(Map.of("dean", List.of("schm")), ScrollPosition.keyset(), 10);
+        final var byCourse = SNAPSHOT.find(Map.of("course", List.of("netz")), ScrollPosition.keyset(), 10);
+        final var combined = SNAPSHOT.find(
+            Map.of("course", List.of("netz"), "name", List.of("info")),
+            ScrollPosition.keyset(),
+            10
+        );
+
+        // then
+        assertThat(byName).get().extracting(window -> ids(window.getContent())).isEqualTo(List.of(ID_1, ID_2));
+        assertThat(byDean).get().extracting(window -> ids(window.getContent())).isEqualTo(List.of(ID_5, ID_1));
+        assertThat(byCourse).get().extracting(window -> ids(window.getContent())).isEqualTo(List.of(ID_4, ID_2));
+        assertThat(combined).get().extracting(window -> ids(window.getContent())).isEqualTo(List.of(ID_2));
+    }
+
+    @Test
+    @DisplayName("Nicht unterstuetzte Suchkriterien werden an die DB delegiert")
+    void findUnsupported() {
+        // when
+        final var unknown = SNAPSHOT.find(Map.of("email", List.of("x")), ScrollPosition.keyset(), 10);
+        final var multiple = SNAPSHOT.find(Map.of("name", List.of("a", "b")), ScrollPosition.keyset(), 10);
+
+        // then
+        assertThat(unknown).isEmpty();
+        assertThat(multiple).isEmpty();
+    }
+
+    @Test
+    @DisplayName("IDs werden wie in PostgreSQL vorzeichenlos sortiert")
+    void findUnsignedIdOrder() {
+        // given
+        final var low = UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff");
+        final var high = UUID.fromString("80000000-0000-0000-0000-000000000000");
+        final var snapshot = new CatalogSnapshot(List.of(
+            entry(high, "Informatik", "Weber", 0, "Netze"),
+            entry(low, "Informatik", "Schmidt", 0, "Netze")
+        ));
+
+        // when
+        final var window = snapshot.find(Map.of(), ScrollPosition.keyset(), 10).orElseThrow();
+
+        // then
+        assertThat(ids(window.getContent())).containsExactly(low, high);
+    }
+
+    @Test
+    @DisplayName("Ein aelterer Eintrag ersetzt keinen neueren, geloeschte Eintraege werden entfernt")
+    void withNewerVersion() {
+        // given
+        final var snapshot = new CatalogSnapshot(List.of(entry(ID_1, "Informatik", "Schmidt", 2, "Netze")));
+
+        // when
+        final var older = snapshot.with(List.of(entry(ID_1, "Info", "Schmidt", 1, "Netze")), Set.of());
+        final var newer = snapshot.with(List.of(entry(ID_1, "Info", "Schmidt", 3, "Netze")), Set.of());
+        final var removed = newer.with(List.of(entry(ID_2, "Physik", "Weber", 0, "Optik")), Set.of(ID_1));
+
+        // then
+        assertThat(older.get(ID_1)).get().extracting(CatalogEntry::version).isEqualTo(2);
+        assertThat(newer.get(ID_1)).get().extracting(CatalogEntry::version).isEqualTo(3);
+        assertThat(removed.get(ID_1)).isEmpty();
+        assertThat(removed.get(ID_2)).isPresent();
+        assertThat(removed.size()).isEqualTo(1);
+    }
+
+    private static CatalogEntry entry(
+        final UUID id,
+        final String name,
+        final String deanName,
+        final int version,
+        final String... courses
+    ) {
+        final var courseSummaries = new ArrayList<CourseSummary>(courses.length);
+        for (final var course : courses) {
+            courseSummaries.add(new CourseSummary(id, UUID.randomUUID(), course));
+        }
+        final var dean = new DeanSummary(UUID.randomUUID(), deanName, deanName.toLowerCase(Locale.ROOT) + "@acme.com");
+        return new CatalogEntry(
+            new FacultySummary(id, name, dean, courseSummaries),
+            version,
+            name.toLowerCase(Locale.ROOT),
+            deanName.toLowerCase(Locale.ROOT)
+        );
+    }
+
+    private static List<UUID> ids(final List<FacultySummary> summaries) {
+        return summaries.stream().map(FacultySummary::id).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.FacultyOutbox;
+import com.acme.faculty.repository.FacultyOutboxRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für das Veröffentlichen der Einträge aus der Outbox.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Veroeffentlichen aus der Outbox")
+class FacultyOutboxRelayTest {
+    private static final long POISON_ID = 3;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private FacultyOutboxRepository repo;
+    private List<Long> published;
+    private FacultyOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(FacultyOutboxRepository.class);
+        published = new ArrayList<>();
+        final OutboxPublisher publisher = messages -> {
+            if (messages.stream().anyMatch(message -> message.id() == POISON_ID)) {
+                throw new IllegalStateException("Nachricht " + POISON_ID + " wird abgelehnt");
+            }
+            messages.forEach(message -> published.add(message.id()));
+        };
+        final var props = new OutboxProps(
+            true,
+            true,
+            Duration.ofSeconds(1),
+            100,
+            1,
+            Duration.ofDays(7),
+            MAX_ATTEMPTS,
+            Duration.ofSeconds(1),
+            Duration.ofMinutes(5)
+        );
+        relay = new FacultyOutboxRelay(repo, publisher, props, mock(PlatformTransactionManager.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    @DisplayName("Eine fehlerhafte Nachricht haelt die uebrigen Eintraege des Blocks nicht auf")
+    void drainBatchIsolatesPoison() {
+        // given
+        final var entries = entries(8, 0);
+        when(repo.lockPending(anyInt(), any(Instant.class))).thenReturn(entries);
+
+        // when
+        final var count = relay.drainBatch();
+
+        // then
+        assertThat(count).isEqualTo(7);
+        assertThat(published).containsExactly(1L, 2L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(entries).filteredOn(entry -> entry.getId() != POISON_ID)
+            .allSatisfy(entry -> {
+                assertThat(entry.getPublishedAt()).isNotNull();
+                assertThat(entry.getAttempts()).isZero();
+            });
+        final var poison = entries.get((int) POISON_ID - 1);
+        assertThat(poison.getPublishedAt()).isNull();
+        assertThat(poison.getAttempts()).isEqualTo(1);
+        assertThat(poison.getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(poison.getFailedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Nach max-attempts Versuchen wird nur die fehlerhafte Nachricht zum Dead Letter")
+    void drainBatchDeadLetter() {
+        // given
+        final var entries = entries(4, MAX_ATTEMPTS - 1);
+        when(repo.lockPending(anyInt(), any(Instant.class))).thenReturn(entries);
+
+        // when
+        relay.drainBatch();
+
+        // then
+        assertThat(entries).filteredOn(entry -> entry.getFailedAt() != null)
+            .extracting(FacultyOutbox::getId)
+            .containsExactly(POISON_ID);
+        assertThat(published).containsExactly(1L, 2L, 4L);
+    }
+
+    private static List<FacultyOutbox> entries(final int count, final int attempts) {
+        final var now = Instant.now();
+        return LongStream.rangeClosed(1, count)
+            .mapToObj(id -> new FacultyOutbox(
+                id,
+                UUID.randomUUID(),
+                0,
+                "CREATED",
+                "{}",
+                now,
+                attempts,
+                null,
+                null,
+                null
+            ))
+            .toList();
+    }
+}
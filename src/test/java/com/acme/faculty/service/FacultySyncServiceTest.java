@@ -0,0 +1,188 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyTombstone;
+import com.acme.faculty.repository.CourseSummary;
+import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.FacultySummary;
+import com.acme.faculty.repository.FacultyTombstoneRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import static com.acme.faculty.service.FacultyDelta.Type.DELETE;
+import static com.acme.faculty.service.FacultyDelta.Type.UPSERT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit-Tests für die Synchronisation mit Deltas.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Synchronisation mit Deltas")
+class FacultySyncServiceTest {
+    private FacultyRepository repo;
+    private FacultyTombstoneRepository tombstoneRepo;
+    private List<Faculty> faculties;
+    private List<FacultyTombstone> tombstones;
+    private List<FacultySummary> summaries;
+    private List<CourseSummary> courses;
+    private FacultySyncService service;
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(FacultyRepository.class);
+        tombstoneRepo = mock(FacultyTombstoneRepository.class);
+        faculties = new ArrayList<>();
+        tombstones = new ArrayList<>();
+        summaries = new ArrayList<>();
+        courses = new ArrayList<>();
+        service = new FacultySyncService(repo, tombstoneRepo);
+        when(repo.findChangedSince(anyLong(), any(Limit.class))).thenAnswer(invocation ->
+            changedSince(faculties, Faculty::getChangeSeq, invocation.getArgument(0), invocation.getArgument(1)));
+        when(tombstoneRepo.findByChangeSeqGreaterThanOrderByChangeSeq(anyLong(), any(Limit.class)))
+            .thenAnswer(invocation -> changedSince(
+                tombstones,
+                FacultyTombstone::getChangeSeq,
+                invocation.getArgument(0),
+                invocation.getArgument(1)
+            ));
+        when(repo.findSummaries(anyCollection())).thenAnswer(invocation -> {
+            final Collection<UUID> ids = invocation.getArgument(0);
+            return summaries.stream().filter(summary -> ids.contains(summary.id())).toList();
+        });
+        when(repo.findCourseSummaries(anyCollection())).thenAnswer(invocation -> {
+            final Collection<UUID> ids = invocation.getArgument(0);
+            return courses.stream().filter(course -> ids.contains(course.facultyId())).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Fakultaeten und Tombstones werden nach der Aenderungsfolge gemischt")
+    void changesSinceMerged() {
+        // given
+        final var first = faculty(1);
+        final var deleted = tombstone(2);
+        final var second = faculty(3);
+
+        // when
+        final var result = service.changesSince(0, 10);
+
+        // then
+        assertThat(result.changes()).extracting(FacultyDelta::changeSeq).containsExactly(1L, 2L, 3L);
+        assertThat(result.changes()).extracting(FacultyDelta::id).containsExactly(first, deleted, second);
+        assertThat(result.changes()).extracting(FacultyDelta::type).containsExactly(UPSERT, DELETE, UPSERT);
+        assertThat(result.changes().getFirst().faculty()).isNotNull();
+        assertThat(result.changes().getFirst().faculty().courses()).extracting(CourseSummary::name)
+            .containsExactly("Kurs 1");
+        assertThat(result.next()).isEqualTo("3");
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Nach einer Position werden nur neuere Aenderungen geliefert")
+    void changesSinceNext() {
+        // given
+        faculty(1);
+        final var second = faculty(2);
+
+        // when
+        final var result = service.changesSince(1, 10);
+
+        // then
+        assertThat(result.changes()).extracting(FacultyDelta::id).containsExactly(second);
+        assertThat(result.next()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("Bei mehr Aenderungen als dem Limit gibt es eine Folgeseite")
+    void changesSinceHasMore() {
+        // given
+        faculty(1);
+        tombstone(2);
+        faculty(3);
+
+        // when
+        final var result = service.changesSince(0, 2);
+
+        // then
+        assertThat(result.changes()).extracting(FacultyDelta::changeSeq).containsExactly(1L, 2L);
+        assertThat(result.next()).isEqualTo("2");
+        assertThat(result.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Keine Aenderungen: das Token bleibt unveraendert")
+    void changesSinceNone() {
+        // when
+        final var result = service.changesSince(7, 10);
+
+        // then
+        assertThat(result.changes()).isEmpty();
+        assertThat(result.next()).isEqualTo("7");
+        assertThat(result.hasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Eine zwischen den Queries geloeschte Fakultaet wird uebersprungen")
+    void changesSinceDeletedMeanwhile() {
+        // given
+        final var first = faculty(1);
+        final var deleted = faculty(2);
+        summaries.removeIf(summary -> summary.id().equals(deleted));
+
+        // when
+        final var result = service.changesSince(0, 10);
+
+        // then
+        assertThat(result.changes()).extracting(FacultyDelta::id).containsExactly(first);
+        assertThat(result.next()).isEqualTo("2");
+    }
+
+    private UUID faculty(final long changeSeq) {
+        final var id = UUID.randomUUID();
+        final var faculty = Faculty.builder()
+            .id(id)
+            .name("Fakultaet " + changeSeq)
+            .changeSeq(changeSeq)
+            .changedAt(Instant.now())
+            .build();
+        faculties.add(faculty);
+        summaries.add(new FacultySummary(id, faculty.getName(), UUID.randomUUID(), "Dekan " + changeSeq, null));
+        courses.add(new CourseSummary(id, UUID.randomUUID(), "Kurs " + changeSeq));
+        return id;
+    }
+
+    private UUID tombstone(final long changeSeq) {
+        final var id = UUID.randomUUID();
+        tombstones.add(new FacultyTombstone(id, changeSeq, Instant.now()));
+        return id;
+    }
+
+    private static <T> List<T> changedSince(
+        final List<T> rows,
+        final ToLongFunction<T> changeSeq,
+        final long since,
+        final Limit limit
+    ) {
+        return rows.stream()
+            .filter(row -> changeSeq.applyAsLong(row) > since)
+            .sorted(Comparator.comparingLong(changeSeq))
+            .limit(limit.max())
+            .toList();
+    }
+}
@@ -0,0 +1,271 @@
+package com.acme.faculty.service;
+
+import com.acme.faculty.entity.Course;
+import com.acme.faculty.entity.Dean;
+import com.acme.faculty.entity.Faculty;
+import com.acme.faculty.entity.FacultyTombstone;
+import com.acme.faculty.repository.FacultyNames;
+import com.acme.faculty.repository.FacultyRepository;
+import com.acme.faculty.repository.SequenceValues;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import static com.acme.faculty.service.FacultyWriteService.BULK_CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+/**
+ * Unit-Tests für das Neuanlegen vieler Fakultäten und das Aktualisieren.
+ *
+ * @author Ahmad Hawarnah
+ */
+@Tag("unit")
+@DisplayName("Neuanlegen vieler Fakultaeten und Aktualisieren")
+class FacultyWriteServiceTest {
+    private FacultyRepository repository;
+    private EntityManager entityManager;
+    private SequenceValues sequenceValues;
+    private PlatformTransactionManager transactionManager;
+    private List<Long> changeSeqsOnSave;
+    private List<Instant> changedAtOnSave;
+    private FacultyWriteService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FacultyRepository.class);
+        entityManager = mock(EntityManager.class);
+        sequenceValues = mock(SequenceValues.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        changeSeqsOnSave = new ArrayList<>();
+        changedAtOnSave = new ArrayList<>();
+        final var lastValue = new AtomicLong();
+        when(sequenceValues.next(eq(Faculty.CHANGE_SEQUENCE), anyInt())).thenAnswer(invocation -> {
+            final int count = invocation.getArgument(1);
+            final var first = lastValue.getAndAdd(count) + 1;
+            return LongStream.range(first, first + count).boxed().toList();
+        });
+        when(sequenceValues.nextInCommitOrder(eq(Faculty.CHANGE_SEQUENCE), anyInt())).thenAnswer(invocation -> {
+            final int count = invocation.getArgument(1);
+            final var first = lastValue.getAndAdd(count) + 1;
+            return LongStream.range(first, first + count).boxed().toList();
+        });
+        when(repository.save(any(Faculty.class))).thenAnswer(invocation -> {
+            final Faculty faculty = invocation.getArgument(0);
+            // der Stand beim Aufruf von save(), d.h. vor dem INSERT
+            changeSeqsOnSave.add(faculty.getChangeSeq());
+            changedAtOnSave.add(faculty.getChangedAt());
+            if (faculty.getId() == null) {
+                faculty.setId(UUID.randomUUID());
+            }
+            return faculty;
+        });
+        service = new FacultyWriteService(
+            repository,
+            mock(ApplicationEventPublisher.class),
+            entityManager,
+            mock(Validator.class),
+            sequenceValues,
+            transactionManager
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(service);
+    }
+
+    @Test
+    @DisplayName("Jede Fakultaet hat vor save() eine eigene Position in der Aenderungsfolge")
+    void createAllStampsBeforeSave() {
+        // given
+        final var faculties = faculties(3);
+
+        // when
+        final var results = service.createAll(faculties, false);
+
+        // then
+        assertThat(results).extracting(BulkResult::status).containsOnly(BulkResult.Status.CREATED);
+        assertThat(changeSeqsOnSave).containsExactly(1L, 2L, 3L);
+        assertThat(changedAtOnSave).doesNotContainNull();
+        final var order = inOrder(sequenceValues, repository, transactionManager);
+        order.verify(sequenceValues).next(Faculty.CHANGE_SEQUENCE, faculties.size());
+        order.verify(repository, times(faculties.size())).save(any(Faculty.class));
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Jeder JDBC-Batch wird in einer eigenen Transaktion geschrieben")
+    void createAllCommitsPerChunk() {
+        // given
+        final var count = BULK_CHUNK_SIZE + 2;
+        final var faculties = faculties(count);
+
+        // when
+        service.createAll(faculties, false);
+
+        // then
+        assertThat(changeSeqsOnSave).doesNotHaveDuplicates().hasSize(count).isSorted();
+        assertThat(changeSeqsOnSave).allSatisfy(changeSeq -> assertThat(changeSeq).isPositive());
+        // zuerst die Transaktion fuer die Pruefung auf vorhandene Namen und Dekane
+        final var order = inOrder(sequenceValues, transactionManager);
+        order.verify(transactionManager).commit(any());
+        order.verify(sequenceValues).next(Faculty.CHANGE_SEQUENCE, BULK_CHUNK_SIZE);
+        order.verify(transactionManager).commit(any());
+        order.verify(sequenceValues).next(Faculty.CHANGE_SEQUENCE, 2);
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Die endgueltige Position wird erst unmittelbar vor dem Commit in Commit-Reihenfolge vergeben")
+    void updateStampsInCommitOrder() {
+        // given
+        final var facultyDb = stored(1);
+        final var input = faculties(2).get(1);
+        when(repository.findNames(anyCollection(), anyCollection(), anyCollection())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        service.update(facultyDb.getId(), input, 1);
+        final var provisional = facultyDb.getChangeSeq();
+        verify(sequenceValues, never()).nextInCommitOrder(any(), anyInt());
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCompletion(STATUS_COMMITTED);
+
+        // then
+        assertThat(provisional).isEqualTo(1L);
+        assertThat(facultyDb.getChangeSeq()).isEqualTo(2L);
+        assertThat(facultyDb.getChangedAt()).isNotNull();
+        // die INSERTs und UPDATEs vor der Sperre, damit sie nur kurz gehalten wird
+        final var order = inOrder(entityManager, sequenceValues);
+        order.verify(entityManager).flush();
+        order.verify(sequenceValues).nextInCommitOrder(Faculty.CHANGE_SEQUENCE, 1);
+        assertThat(TransactionSynchronizationManager.hasResource(service)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Der Tombstone beim Loeschen erhaelt seine Position ebenfalls vor dem Commit")
+    void deleteStampsTombstoneInCommitOrder() {
+        // given
+        final var facultyDb = stored(0);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        service.delete(facultyDb.getId());
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCompletion(STATUS_COMMITTED);
+
+        // then
+        final var tombstone = ArgumentCaptor.forClass(FacultyTombstone.class);
+        verify(entityManager).persist(tombstone.capture());
+        assertThat(tombstone.getValue().getId()).isEqualTo(facultyDb.getId());
+        assertThat(tombstone.getValue().getChangeSeq()).isEqualTo(2L);
+        verify(sequenceValues).nextInCommitOrder(Faculty.CHANGE_SEQUENCE, 1);
+    }
+
+    @Test
+    @DisplayName("Nach einem Rollback wird keine endgueltige Position vergeben")
+    void rollbackWithoutCommitOrder() {
+        // given
+        final var facultyDb = stored(1);
+        final var input = faculties(2).get(1);
+        when(repository.findNames(anyCollection(), anyCollection(), anyCollection())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        service.update(facultyDb.getId(), input, 1);
+        TransactionSynchronizationUtils.triggerAfterCompletion(STATUS_ROLLED_BACK);
+
+        // then
+        verify(sequenceValues, never()).nextInCommitOrder(any(), anyInt());
+        assertThat(TransactionSynchronizationManager.hasResource(service)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Beim Aktualisieren werden Name, Dekan und Kurse uebernommen")
+    void updateCopiesFields() {
+        // given
+        final var facultyDb = stored(1);
+        final var input = faculties(2).get(1);
+        when(repository.findNames(anyCollection(), anyCollection(), anyCollection())).thenReturn(List.of(
+            new FacultyNames(facultyDb.getId(), "Fakultaet 0", "Dekan 0", "dekan0@acme.com")
+        ));
+
+        // when
+        final var updated = service.update(facultyDb.getId(), input, 1);
+
+        // then
+        assertThat(updated.getName()).isEqualTo("Fakultaet 1");
+        assertThat(updated.getDean().getName()).isEqualTo("Dekan 1");
+        assertThat(updated.getDean().getEmail()).isEqualTo("dekan1@acme.com");
+        assertThat(updated.getCourses()).extracting(Course::getName).containsExactly("Kurs 1");
+        assertThat(changeSeqsOnSave).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Beim Aktualisieren mit veralteter Version oder fremdem Namen wird abgebrochen")
+    void updateRejected() {
+        // given
+        final var facultyDb = stored(1);
+        final var input = faculties(2).get(1);
+        when(repository.findNames(anyCollection(), anyCollection(), anyCollection())).thenReturn(List.of(
+            new FacultyNames(UUID.randomUUID(), "Fakultaet 1", "Dekan 9", "dekan9@acme.com")
+        ));
+
+        // when / then
+        assertThatThrownBy(() -> service.update(facultyDb.getId(), input, 0))
+            .isInstanceOf(VersionOutdatedException.class);
+        assertThatThrownBy(() -> service.update(facultyDb.getId(), input, 1))
+            .isInstanceOf(NameExistsException.class);
+        assertThat(changeSeqsOnSave).isEmpty();
+    }
+
+    private Faculty stored(final int version) {
+        final var facultyDb = faculties(1).getFirst();
+        facultyDb.setId(UUID.randomUUID());
+        facultyDb.setVersion(version);
+        when(repository.findById(facultyDb.getId())).thenReturn(Optional.of(facultyDb));
+        return facultyDb;
+    }
+
+    private static List<Faculty> faculties(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> Faculty.builder()
+                .name("Fakultaet " + i)
+                .dean(Dean.builder().name("Dekan " + i).email("dekan" + i + "@acme.com").build())
+                .courses(new ArrayList<>(List.of(Course.builder().name("Kurs " + i).build())))
+                .build())
+            .toList();
+    }
+}